@@ -1,59 +1,48 @@
 package brickGame.Model;
 
-import javafx.scene.image.Image;
+import brickGame.View.assets.AssetCache;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
-import java.io.Serializable;
 
 /**
- * Represents a block in a brick-breaking game.
- * Each block is defined by its position on the grid, color, and type.
- * The block can interact with a ball, which may lead to changes in the block's state (like being destroyed).
+ * View adapter for a single block of a brick-breaking game.
+ * The block's data (grid position, color, type and whether it is destroyed) lives in a {@link BlockStore};
+ * this class only wraps that entry with the JavaFX rectangle used to draw it.
  */
-public class Block implements Serializable {
+public class Block {
 
     // Constants representing different types of blocks and hit outcomes
-    private static final int BLOCK_NORMAL = 99;
-    private static final int BLOCK_CHOCO = 100;
-    private static final int BLOCK_STAR = 101;
-    private static final int BLOCK_HEART = 102;
-    private static final int NO_HIT = -1;
-    private static final int HIT_RIGHT = 0;
-    private static final int HIT_BOTTOM = 1;
-    private static final int HIT_LEFT = 2;
-    private static final int HIT_TOP = 3;
-
-    // Properties defining the block's position, appearance, and state
-    private final int row;
-    private final int column;
-    private boolean isDestroyed = false;
-    private final Color color;
-    private final int type;
-    private int x;
-    private int y;
+    private static final int BLOCK_NORMAL = BlockStore.BLOCK_NORMAL;
+    private static final int BLOCK_CHOCO = BlockStore.BLOCK_CHOCO;
+    private static final int BLOCK_STAR = BlockStore.BLOCK_STAR;
+    private static final int BLOCK_HEART = BlockStore.BLOCK_HEART;
+    private static final int NO_HIT = BlockStore.NO_HIT;
+    private static final int HIT_RIGHT = BlockStore.HIT_RIGHT;
+    private static final int HIT_BOTTOM = BlockStore.HIT_BOTTOM;
+    private static final int HIT_LEFT = BlockStore.HIT_LEFT;
+    private static final int HIT_TOP = BlockStore.HIT_TOP;
+
+    // The store entry this block presents, and its visual representation
+    private final BlockStore store;
+    private final int index;
     private Rectangle rect;
 
     // Fixed dimensions and padding for all blocks
-    private static final int width = 100;
-    private static final int height = 30;
-    private static final int paddingTop = height * 2;
-    private static final int paddingH = 50;
+    private static final int width = BlockStore.WIDTH;
+    private static final int height = BlockStore.HEIGHT;
+    private static final int paddingTop = BlockStore.PADDING_TOP;
+    private static final int paddingH = BlockStore.PADDING_H;
 
     /**
-     * Constructs a Block object with specified row, column, color, and type.
+     * Constructs a Block view for an entry of the block store.
      *
-     * @param row    The row position of the block on the grid.
-     * @param column The column position of the block on the grid.
-     * @param color  The color of the block.
-     * @param type   The type of the block, determining its behavior and appearance.
+     * @param store The store holding the block's data.
+     * @param index The index of the block in the store.
      */
-    public Block(int row, int column, Color color, int type) {
-        // Initialize the block's properties
-        this.row = row;
-        this.column = column;
-        this.color = color;
-        this.type = type;
+    public Block(BlockStore store, int index) {
+        this.store = store;
+        this.index = index;
 
         draw();
     }
@@ -63,26 +52,46 @@ public class Block implements Serializable {
      * Applies a color or pattern to the block based on its type.
      */
     private void draw() {
-        // Set the block's position based on its grid location
-        x = (column * width) + paddingH;
-        y = (row * height) + paddingTop;
-
         // Create and set the rectangle's dimensions and position
         rect = new Rectangle();
         rect.setWidth(width);
         rect.setHeight(height);
-        rect.setX(x);
-        rect.setY(y);
+        rect.setX(getX());
+        rect.setY(getY());
 
         // Apply a pattern or color based on the block type
-        ImagePattern pattern = loadImagePatternBasedOnType(type);
+        ImagePattern pattern = loadImagePatternBasedOnType(getType());
         if (pattern != null) {
             rect.setFill(pattern);
         } else {
-            rect.setFill(color);
+            rect.setFill(getColor());
         }
     }
 
+    /**
+     * Packs a color into a 0xAARRGGBB integer for storage in a {@link BlockStore}.
+     *
+     * @param color The color to pack.
+     * @return The packed color.
+     */
+    public static int toArgb(Color color) {
+        int a = (int) Math.round(color.getOpacity() * 255);
+        int r = (int) Math.round(color.getRed() * 255);
+        int g = (int) Math.round(color.getGreen() * 255);
+        int b = (int) Math.round(color.getBlue() * 255);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * Unpacks a 0xAARRGGBB integer into a color.
+     *
+     * @param argb The packed color.
+     * @return The corresponding color.
+     */
+    public static Color fromArgb(int argb) {
+        return Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF, ((argb >>> 24) & 0xFF) / 255.0);
+    }
+
     /**
      * Loads an image pattern for the block based on its type.
      *
@@ -105,9 +114,8 @@ public class Block implements Serializable {
             default:
                 return null;
         }
-        // Load and return the image as a pattern
-        Image image = new Image(imagePath);
-        return new ImagePattern(image);
+        // Return the shared pattern so each texture is decoded only once
+        return AssetCache.getPattern(imagePath);
     }
 
     /**
@@ -119,28 +127,7 @@ public class Block implements Serializable {
      * @return An integer representing the side of the block that was hit, or NO_HIT if not hit.
      */
     public int checkHitToBlock(double xBall, double yBall, double ballRadius) {
-
-        if (isDestroyed) {
-            return NO_HIT;
-        }
-
-        if (xBall >= x && xBall <= x + width && yBall - ballRadius <= y + height && yBall + ballRadius > y + height) {
-            return HIT_BOTTOM;
-        }
-
-        if (xBall >= x && xBall <= x + width && yBall + ballRadius >= y && yBall - ballRadius < y) {
-            return HIT_TOP;
-        }
-
-        if (yBall >= y && yBall <= y + height && xBall - ballRadius <= x + width && xBall + ballRadius > x + width) {
-            return HIT_RIGHT;
-        }
-
-        if (yBall >= y && yBall <= y + height && xBall + ballRadius >= x && xBall - ballRadius < x) {
-            return HIT_LEFT;
-        }
-
-        return NO_HIT;
+        return store.checkHit(index, xBall, yBall, ballRadius);
     }
 
     /**
@@ -149,42 +136,42 @@ public class Block implements Serializable {
      * @return The color of the block.
      */
     public Color getColor() {
-        return color;
+        return fromArgb(store.getColor(index));
     }
 
     // Getters and Setters for the block's properties
-    public int getRow() {
-        return row;
+    public int getIndex() {
+        return index;
     }
 
 
-    public int getColumn() {
-        return column;
+    public int getRow() {
+        return store.getRow(index);
     }
 
 
-    public boolean isDestroyed() {
-        return isDestroyed;
+    public int getColumn() {
+        return store.getColumn(index);
     }
 
 
-    public void setDestroyed(boolean isDestroyed) {
-        this.isDestroyed = isDestroyed;
+    public boolean isDestroyed() {
+        return !store.isLive(index);
     }
 
 
     public int getType() {
-        return type;
+        return store.getType(index);
     }
 
 
     public int getX() {
-        return x;
+        return store.getX(index);
     }
 
 
     public int getY() {
-        return y;
+        return store.getY(index);
     }
 
 
@@ -0,0 +1,128 @@
+package brickGame.Model;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid spatial index over the blocks of a {@link BlockStore}.
+ * Blocks sit on a fixed grid (see {@link BlockStore#WIDTH}, {@link BlockStore#HEIGHT},
+ * {@link BlockStore#PADDING_H} and {@link BlockStore#PADDING_TOP}), so every block owns exactly one cell
+ * and the blocks near the ball can be found in constant time instead of scanning the whole board.
+ * Destroyed blocks are removed from the index so they are never returned again.
+ */
+public class BlockGrid {
+
+    private static final int EMPTY = -1;
+
+    private int[] cells = new int[0]; // Row-major cell array holding block indices, EMPTY where there is no live block
+    private int columns = 0; // Number of cell columns covered by the grid
+    private int rows = 0; // Number of cell rows covered by the grid
+    private int[] candidates = new int[16]; // Reused result buffer for query()
+
+    /**
+     * Rebuilds the index from the given store, skipping any blocks that are already destroyed.
+     *
+     * @param store The store holding the current board.
+     */
+    public void rebuild(BlockStore store) {
+        columns = 0;
+        rows = 0;
+        for (int i = 0; i < store.size(); i++) {
+            columns = Math.max(columns, store.getColumn(i) + 1);
+            rows = Math.max(rows, store.getRow(i) + 1);
+        }
+
+        if (cells.length < columns * rows) {
+            cells = new int[columns * rows];
+        }
+        Arrays.fill(cells, EMPTY);
+        for (int i = store.nextLive(0); i >= 0; i = store.nextLive(i + 1)) {
+            cells[store.getRow(i) * columns + store.getColumn(i)] = i;
+        }
+    }
+
+    /**
+     * Removes a block from the index, typically right after it has been destroyed.
+     *
+     * @param store The store holding the block.
+     * @param index The index of the block to remove.
+     */
+    public void remove(BlockStore store, int index) {
+        int column = store.getColumn(index);
+        int cell = store.getRow(index) * columns + column;
+        if (column < columns && cell < rows * columns && cells[cell] == index) {
+            cells[cell] = EMPTY;
+        }
+    }
+
+    /**
+     * Finds the live blocks whose cells overlap the bounding box of the ball.
+     * The box is widened by one pixel so blocks touching the ball exactly on a cell border are included.
+     * The indices are written to the buffer returned by {@link #getCandidates()}.
+     *
+     * @param xBall      The x-coordinate of the ball's center.
+     * @param yBall      The y-coordinate of the ball's center.
+     * @param ballRadius The radius of the ball.
+     * @return The number of candidate blocks that may be hit by the ball.
+     */
+    public int query(double xBall, double yBall, double ballRadius) {
+        return query(xBall - ballRadius - 1, yBall - ballRadius - 1, xBall + ballRadius + 1, yBall + ballRadius + 1);
+    }
+
+    /**
+     * Finds the live blocks whose cells overlap an axis-aligned box.
+     * The indices are written to the buffer returned by {@link #getCandidates()}.
+     *
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box.
+     * @param maxY The bottom edge of the box.
+     * @return The number of candidate blocks inside the box.
+     */
+    public int query(double minX, double minY, double maxX, double maxY) {
+        if (columns == 0 || rows == 0) {
+            return 0;
+        }
+
+        // Clamp to the grid; if the box lies entirely outside there is nothing to test
+        int firstColumn = Math.max(toCell(minX, BlockStore.PADDING_H, BlockStore.WIDTH), 0);
+        int lastColumn = Math.min(toCell(maxX, BlockStore.PADDING_H, BlockStore.WIDTH), columns - 1);
+        int firstRow = Math.max(toCell(minY, BlockStore.PADDING_TOP, BlockStore.HEIGHT), 0);
+        int lastRow = Math.min(toCell(maxY, BlockStore.PADDING_TOP, BlockStore.HEIGHT), rows - 1);
+
+        int count = 0;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int index = cells[row * columns + column];
+                if (index != EMPTY) {
+                    if (count == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, count * 2);
+                    }
+                    candidates[count++] = index;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the buffer filled by the last query.
+     * Only the first n entries are valid, where n is the value returned by that query.
+     *
+     * @return The candidate block indices.
+     */
+    public int[] getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Converts a coordinate into a cell index along one axis.
+     *
+     * @param coordinate The coordinate to convert.
+     * @param padding    The offset of the first cell along this axis.
+     * @param size       The size of a cell along this axis.
+     * @return The index of the cell containing the coordinate (may be negative or past the grid).
+     */
+    private static int toCell(double coordinate, int padding, int size) {
+        return (int) Math.floor((coordinate - padding) / size);
+    }
+}
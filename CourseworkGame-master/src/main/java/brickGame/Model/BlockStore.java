@@ -0,0 +1,262 @@
+package brickGame.Model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Struct-of-arrays storage for all blocks on the board.
+ * Each block is identified by an index into parallel primitive arrays holding its grid position,
+ * pixel position, type and color, and a {@link BitSet} tracks which blocks are still alive.
+ * Collision tests, the destroyed-block check and saving all read these arrays directly,
+ * so they stay cheap even on boards with thousands of blocks.
+ * {@link Block} is only a view adapter that renders one entry of this store.
+ */
+public class BlockStore {
+
+    // Constants representing different types of blocks and hit outcomes
+    public static final int BLOCK_NORMAL = 99;
+    public static final int BLOCK_CHOCO = 100;
+    public static final int BLOCK_STAR = 101;
+    public static final int BLOCK_HEART = 102;
+    public static final int NO_HIT = -1;
+    public static final int HIT_RIGHT = 0;
+    public static final int HIT_BOTTOM = 1;
+    public static final int HIT_LEFT = 2;
+    public static final int HIT_TOP = 3;
+
+    // Fixed dimensions and padding for all blocks
+    public static final int WIDTH = 100;
+    public static final int HEIGHT = 30;
+    public static final int PADDING_TOP = HEIGHT * 2;
+    public static final int PADDING_H = 50;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Parallel arrays describing every block ever added since the last clear()
+    private int[] row = new int[INITIAL_CAPACITY];
+    private int[] column = new int[INITIAL_CAPACITY];
+    private int[] x = new int[INITIAL_CAPACITY];
+    private int[] y = new int[INITIAL_CAPACITY];
+    private int[] type = new int[INITIAL_CAPACITY];
+    private int[] color = new int[INITIAL_CAPACITY]; // Colors packed as 0xAARRGGBB
+    private final BitSet live = new BitSet(); // Set bits mark blocks that have not been destroyed
+    private int size = 0; // Number of blocks added
+    private int liveCount = 0; // Number of set bits in live, kept up to date incrementally
+
+    /**
+     * Adds a live block to the store.
+     *
+     * @param blockRow    The row position of the block on the grid.
+     * @param blockColumn The column position of the block on the grid.
+     * @param blockType   The type of the block, determining its behavior and appearance.
+     * @param argb        The color of the block packed as 0xAARRGGBB.
+     * @return The index identifying the new block.
+     */
+    public int add(int blockRow, int blockColumn, int blockType, int argb) {
+        if (size == row.length) {
+            grow();
+        }
+        int index = size++;
+        row[index] = blockRow;
+        column[index] = blockColumn;
+        x[index] = (blockColumn * WIDTH) + PADDING_H;
+        y[index] = (blockRow * HEIGHT) + PADDING_TOP;
+        type[index] = blockType;
+        color[index] = argb;
+        live.set(index);
+        liveCount++;
+        return index;
+    }
+
+    /**
+     * Doubles the capacity of all parallel arrays.
+     */
+    private void grow() {
+        int capacity = row.length * 2;
+        row = Arrays.copyOf(row, capacity);
+        column = Arrays.copyOf(column, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        type = Arrays.copyOf(type, capacity);
+        color = Arrays.copyOf(color, capacity);
+    }
+
+    /**
+     * Removes all blocks, keeping the allocated arrays for the next board.
+     */
+    public void clear() {
+        live.clear();
+        size = 0;
+        liveCount = 0;
+    }
+
+    /**
+     * Replaces all blocks with a copy of another store's blocks, keeping the allocated arrays if they are big enough.
+     *
+     * @param other The store to copy, e.g. a board built ahead of time.
+     */
+    public void copyFrom(BlockStore other) {
+        if (row.length < other.size) {
+            int capacity = Math.max(other.size, row.length * 2);
+            row = new int[capacity];
+            column = new int[capacity];
+            x = new int[capacity];
+            y = new int[capacity];
+            type = new int[capacity];
+            color = new int[capacity];
+        }
+        System.arraycopy(other.row, 0, row, 0, other.size);
+        System.arraycopy(other.column, 0, column, 0, other.size);
+        System.arraycopy(other.x, 0, x, 0, other.size);
+        System.arraycopy(other.y, 0, y, 0, other.size);
+        System.arraycopy(other.type, 0, type, 0, other.size);
+        System.arraycopy(other.color, 0, color, 0, other.size);
+        live.clear();
+        live.or(other.live);
+        size = other.size;
+        liveCount = other.liveCount;
+    }
+
+    /**
+     * Checks if any block of a given type has been added, destroyed ones included.
+     *
+     * @param blockType The type to look for.
+     * @return True if the store holds a block of that type.
+     */
+    public boolean containsType(int blockType) {
+        for (int i = 0; i < size; i++) {
+            if (type[i] == blockType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks a block as destroyed.
+     *
+     * @param index The index of the block.
+     * @return True if the block was alive before this call, false if it was already destroyed.
+     */
+    public boolean destroy(int index) {
+        if (!live.get(index)) {
+            return false;
+        }
+        live.clear(index);
+        liveCount--;
+        return true;
+    }
+
+    /**
+     * Checks if a block is hit by the ball.
+     *
+     * @param index      The index of the block.
+     * @param xBall      The x-coordinate of the ball.
+     * @param yBall      The y-coordinate of the ball.
+     * @param ballRadius The radius of the ball.
+     * @return An integer representing the side of the block that was hit, or NO_HIT if not hit.
+     */
+    public int checkHit(int index, double xBall, double yBall, double ballRadius) {
+        if (!live.get(index)) {
+            return NO_HIT;
+        }
+
+        int left = x[index];
+        int top = y[index];
+
+        if (xBall >= left && xBall <= left + WIDTH && yBall - ballRadius <= top + HEIGHT && yBall + ballRadius > top + HEIGHT) {
+            return HIT_BOTTOM;
+        }
+
+        if (xBall >= left && xBall <= left + WIDTH && yBall + ballRadius >= top && yBall - ballRadius < top) {
+            return HIT_TOP;
+        }
+
+        if (yBall >= top && yBall <= top + HEIGHT && xBall - ballRadius <= left + WIDTH && xBall + ballRadius > left + WIDTH) {
+            return HIT_RIGHT;
+        }
+
+        if (yBall >= top && yBall <= top + HEIGHT && xBall + ballRadius >= left && xBall - ballRadius < left) {
+            return HIT_LEFT;
+        }
+
+        return NO_HIT;
+    }
+
+    /**
+     * Gets the index of the next live block at or after the given index.
+     * Iterate all live blocks with {@code for (int i = nextLive(0); i >= 0; i = nextLive(i + 1))}.
+     *
+     * @param fromIndex The index to start searching from.
+     * @return The index of the next live block, or -1 if there is none.
+     */
+    public int nextLive(int fromIndex) {
+        return live.nextSetBit(fromIndex);
+    }
+
+    /**
+     * Copies the live flags of all blocks into a bit array, block i being bit (i % 64) of word i / 64.
+     * Used to take snapshots without allocating.
+     *
+     * @param words The array to fill; must hold at least (size() + 63) / 64 words.
+     */
+    public void copyLiveBits(long[] words) {
+        Arrays.fill(words, 0, (size + 63) >>> 6, 0L);
+        for (int i = live.nextSetBit(0); i >= 0; i = live.nextSetBit(i + 1)) {
+            words[i >>> 6] |= 1L << i;
+        }
+    }
+
+    /**
+     * Checks if a block has not been destroyed yet.
+     *
+     * @param index The index of the block.
+     * @return True if the block is alive, false otherwise.
+     */
+    public boolean isLive(int index) {
+        return live.get(index);
+    }
+
+    /**
+     * Gets the number of blocks that have not been destroyed.
+     *
+     * @return The number of live blocks.
+     */
+    public int liveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Gets the number of blocks added since the last clear, destroyed ones included.
+     *
+     * @return The number of blocks in the store.
+     */
+    public int size() {
+        return size;
+    }
+
+    // Getters for the properties of a single block
+    public int getRow(int index) {
+        return row[index];
+    }
+
+    public int getColumn(int index) {
+        return column[index];
+    }
+
+    public int getX(int index) {
+        return x[index];
+    }
+
+    public int getY(int index) {
+        return y[index];
+    }
+
+    public int getType(int index) {
+        return type[index];
+    }
+
+    public int getColor(int index) {
+        return color[index];
+    }
+}
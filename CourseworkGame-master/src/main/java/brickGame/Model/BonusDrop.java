@@ -0,0 +1,37 @@
+package brickGame.Model;
+
+/**
+ * A falling bonus released when a choco block is destroyed.
+ * Holds only the simulation data; {@link brickGame.View.Bonus} draws it.
+ */
+public class BonusDrop {
+    // Size of the bonus and the offset used to center it within its block
+    public static final int SIZE = 30;
+    private static final int OFFSET = 15;
+
+    // Position of the bonus's top-left corner
+    public double x;
+    public double y;
+
+    // Time when the bonus was created
+    public long timeCreated;
+
+    // Which of the bonus images to show, chosen by the simulation so replays look the same
+    public int variant = 0;
+
+    // Flag to check if the bonus has been taken
+    public boolean taken = false;
+
+    /**
+     * Creates a bonus centered on the grid cell of the block that released it.
+     *
+     * @param row         The row in the game grid where the bonus is located.
+     * @param column      The column in the game grid where the bonus is located.
+     * @param timeCreated The in-game time at which the bonus was released.
+     */
+    public BonusDrop(int row, int column, long timeCreated) {
+        x = (column * BlockStore.WIDTH) + BlockStore.PADDING_H + (BlockStore.WIDTH / 2.0) - OFFSET;
+        y = (row * BlockStore.HEIGHT) + BlockStore.PADDING_TOP + (BlockStore.HEIGHT / 2.0) - OFFSET;
+        this.timeCreated = timeCreated;
+    }
+}
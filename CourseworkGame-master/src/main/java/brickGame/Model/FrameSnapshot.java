@@ -0,0 +1,125 @@
+package brickGame.Model;
+
+import java.util.Arrays;
+
+/**
+ * Copy of everything that changes on screen from one physics step to the next: ball, paddle, HUD values,
+ * which blocks are still standing and where the falling bonuses are.
+ * Snapshots are filled on the thread stepping the simulation and handed to readers through a
+ * {@link SnapshotBuffer}, so readers never see a half-updated step. The arrays are reused and only grow,
+ * so taking a snapshot does not allocate once the board and bonus list have reached their largest size.
+ * The block layout (positions, types, colors) is not copied; it only changes when a board is built,
+ * while nothing is stepping the simulation, so views read it from the {@link BlockStore} directly.
+ */
+public class FrameSnapshot {
+
+    // Step this snapshot was taken after
+    public long tick;
+
+    // Progress
+    public int level;
+    public int score;
+    public int heart;
+
+    // Ball and paddle
+    public double xBall;
+    public double yBall;
+    public double xBreak;
+    public double yBreak;
+
+    // Status flags
+    public boolean isGoldStatus;
+    public boolean gameOver;
+    public boolean won;
+
+    // Blocks, block i being live if bit (i % 64) of liveBlocks[i / 64] is set
+    public int boardVersion; // Board the block and bonus data belong to
+    public int blockCount;
+    public long[] liveBlocks = new long[1];
+
+    // Falling bonuses, in the order of the state's bonus list
+    public int bonusCount;
+    public double[] bonusX = new double[8];
+    public double[] bonusY = new double[8];
+    public int[] bonusVariant = new int[8];
+    public boolean[] bonusTaken = new boolean[8];
+
+    /**
+     * Overwrites this snapshot with the current state.
+     *
+     * @param state The state to copy.
+     * @param step  The number of physics steps taken so far.
+     */
+    void copyFrom(GameState state, long step) {
+        tick = step;
+        level = state.level;
+        score = state.score;
+        heart = state.heart;
+        xBall = state.xBall;
+        yBall = state.yBall;
+        xBreak = state.xBreak;
+        yBreak = state.yBreak;
+        isGoldStatus = state.isGoldStatus;
+        gameOver = state.gameOver;
+        won = state.won;
+
+        boardVersion = state.boardVersion;
+        blockCount = state.blocks.size();
+        int words = (blockCount + 63) >>> 6;
+        if (liveBlocks.length < words) {
+            liveBlocks = new long[words];
+        }
+        state.blocks.copyLiveBits(liveBlocks);
+
+        bonusCount = state.bonuses.size();
+        if (bonusX.length < bonusCount) {
+            int capacity = Math.max(bonusCount, bonusX.length * 2);
+            bonusX = Arrays.copyOf(bonusX, capacity);
+            bonusY = Arrays.copyOf(bonusY, capacity);
+            bonusVariant = Arrays.copyOf(bonusVariant, capacity);
+            bonusTaken = Arrays.copyOf(bonusTaken, capacity);
+        }
+        for (int i = 0; i < bonusCount; i++) {
+            BonusDrop drop = state.bonuses.get(i);
+            bonusX[i] = drop.x;
+            bonusY[i] = drop.y;
+            bonusVariant[i] = drop.variant;
+            bonusTaken[i] = drop.taken;
+        }
+    }
+
+    /**
+     * Checks if a block was still standing when the snapshot was taken.
+     *
+     * @param index The index of the block in the block store.
+     * @return True if the block is live, false if it was destroyed or is not part of this snapshot.
+     */
+    public boolean isBlockLive(int index) {
+        return index < blockCount && (liveBlocks[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Gets the index of the next live block at or after the given index.
+     *
+     * @param fromIndex The index to start searching from.
+     * @return The index of the next live block, or -1 if there is none.
+     */
+    public int nextLiveBlock(int fromIndex) {
+        int word = fromIndex >>> 6;
+        int words = (blockCount + 63) >>> 6;
+        if (word >= words) {
+            return -1;
+        }
+        long bits = liveBlocks[word] & (-1L << fromIndex);
+        while (true) {
+            if (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return index < blockCount ? index : -1;
+            }
+            if (++word == words) {
+                return -1;
+            }
+            bits = liveBlocks[word];
+        }
+    }
+}
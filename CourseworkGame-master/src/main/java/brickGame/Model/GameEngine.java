@@ -1,21 +1,42 @@
 package brickGame.Model;
 
+import brickGame.Model.clock.GameClock;
+import brickGame.Model.clock.SystemGameClock;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 /**
  * Represents the core game engine for a brick-breaking game.
- * Manages game logic, rendering, physics, and timing through separate threads.
+ * Manages game logic, rendering and physics either through separate threads
+ * or through a single fixed-timestep loop thread, depending on the selected {@link Mode}.
+ * In-game time is derived from a {@link GameClock} rather than counted by a thread.
  * Controls the main game loop and coordinates the synchronization between different game aspects.
  */
 public class GameEngine {
 
+    /**
+     * Threading models supported by the engine.
+     * MULTI_THREADED runs update, render and physics on their own threads.
+     * FIXED_TIMESTEP runs everything on one loop thread, stepping physics at a fixed rate.
+     */
+    public enum Mode {
+        MULTI_THREADED, FIXED_TIMESTEP
+    }
+
     private OnAction onAction; // Callback interface for game actions
+    private Mode mode = Mode.MULTI_THREADED; // Threading model used by start()
     private int fps = 60; // Frames per second for the game loop
+    private int physicsHz = 120; // Physics steps per second in FIXED_TIMESTEP mode
+    private int maxStepsPerFrame = 5; // Upper bound on catch-up physics steps per frame
+    private Thread loopThread; // Single loop thread used in FIXED_TIMESTEP mode
     private Thread updateThread; // Thread for updating game logic
     private Thread renderThread; // Thread for rendering graphics
     private Thread physicsThread; // Thread for physics calculations
-    private Thread timeThread; // Thread for tracking in-game time
+    private GameClock clock = new SystemGameClock(); // Source of in-game time
     private volatile boolean running = false; // Flag to control the game loop
-    private long time = 0; // In-game time counter
+    private volatile long time = 0; // Last in-game time reported through onTime
     private volatile boolean isPaused = false; // Flag to manage game pause state
+    private final ConcurrentLinkedQueue<Runnable> boundaryTasks = new ConcurrentLinkedQueue<>(); // Work to run between physics steps
+    private volatile boolean timelineRestarted = false; // Set by loadLevel, tells the loop to restart in-game time from zero
 
     /**
      * Sets the callback interface for game actions.
@@ -35,6 +56,139 @@ public class GameEngine {
         this.fps = 1000 / fps;
     }
 
+    /**
+     * Selects the threading model used when the engine is started.
+     *
+     * @param mode The threading model to use.
+     */
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Sets the fixed physics rate used in FIXED_TIMESTEP mode.
+     *
+     * @param physicsHz Physics steps per second.
+     */
+    public void setPhysicsHz(int physicsHz) {
+        this.physicsHz = physicsHz;
+    }
+
+    /**
+     * Sets how many physics steps a single frame may run to catch up after a stall.
+     * Any backlog beyond this cap is dropped so a slow frame cannot snowball.
+     *
+     * @param maxStepsPerFrame Maximum number of physics steps per frame.
+     */
+    public void setMaxStepsPerFrame(int maxStepsPerFrame) {
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Replaces the clock used to derive in-game time, e.g. with a manually advanced clock for tests.
+     *
+     * @param clock The clock to use.
+     */
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the clock used to derive in-game time.
+     *
+     * @return The game clock.
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Sets the rate at which in-game time advances, e.g. 0.5 for slow motion.
+     *
+     * @param timeScale The time scale factor.
+     */
+    public void setTimeScale(double timeScale) {
+        clock.setTimeScale(timeScale);
+    }
+
+    /**
+     * Gets the last in-game time reported to the game, in milliseconds.
+     *
+     * @return The in-game time.
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Runs a task on the thread that steps the physics, between two steps, so it sees a consistent state.
+     * While the engine is paused the task still runs promptly; if the engine is not running it runs
+     * straight away on the calling thread.
+     *
+     * @param task The task to run.
+     */
+    public void runAtStepBoundary(Runnable task) {
+        synchronized (this) {
+            if (running) {
+                boundaryTasks.add(task);
+                notifyAll(); // Wake a paused physics thread so it can run the task
+                return;
+            }
+        }
+        task.run();
+    }
+
+    /**
+     * Replaces what the engine is driving in place, e.g. with the next level's board or a loaded game.
+     * The loader runs at the next step boundary on the thread stepping the physics, after which in-game
+     * time restarts from zero without a catch-up burst. The engine's threads keep running throughout, so a
+     * level transition costs one boundary task instead of a stop and a fresh start.
+     * If the engine is not running, the loader runs straight away on the calling thread.
+     *
+     * @param loader Resets the game for the new level; runs with nothing stepping the physics.
+     */
+    public void loadLevel(Runnable loader) {
+        runAtStepBoundary(() -> {
+            loader.run();
+            clock.reset();
+            time = 0;
+            timelineRestarted = true;
+        });
+    }
+
+    /**
+     * Checks, and clears, whether loadLevel has restarted in-game time since the last call.
+     *
+     * @return True if the loop must restart its timeline.
+     */
+    private boolean takeTimelineRestart() {
+        if (!timelineRestarted) {
+            return false;
+        }
+        timelineRestarted = false;
+        return true;
+    }
+
+    /**
+     * Runs every queued step-boundary task. Only called by the thread that steps the physics,
+     * or once that thread has finished.
+     */
+    private void runBoundaryTasks() {
+        Runnable task;
+        while ((task = boundaryTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * Publishes the current clock time to the game through onTime.
+     * Used by the MULTI_THREADED loops in place of a dedicated timing thread.
+     */
+    private void publishTime() {
+        time = clock.elapsedMillis();
+        onAction.onTime(time);
+    }
+
     /**
      * Initializes and starts the game update thread.
      * This thread runs the main game loop and triggers game logic updates.
@@ -42,16 +196,12 @@ public class GameEngine {
     private synchronized void Update() {
         updateThread = new Thread(() -> {
             while (running) {
-                synchronized (this) {
-                    while (isPaused) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                        }
-                    }
+                awaitResume(false);
+                if (!running) {
+                    break;
                 }
                 try {
+                    publishTime();
                     onAction.onUpdate();
                     Thread.sleep(fps);
                 } catch (InterruptedException e) {
@@ -77,16 +227,13 @@ public class GameEngine {
     private synchronized void PhysicsCalculation() {
         physicsThread = new Thread(() -> {
             while (running) {
-                synchronized (this) {
-                    while (isPaused) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                        }
-                    }
+                awaitResume(true);
+                if (!running) {
+                    break;
                 }
                 try {
+                    runBoundaryTasks();
+                    publishTime();
                     onAction.onPhysicsUpdate();
                     Thread.sleep(fps);
                 } catch (InterruptedException e) {
@@ -99,16 +246,119 @@ public class GameEngine {
 
     /**
      * Starts the game engine.
-     * Initializes and begins all necessary threads for the game logic, rendering, physics, and timing.
+     * Resets the game clock and begins all necessary threads for the game logic, rendering and physics.
      */
     public void start() {
         running = true;
         time = 0;
+        timelineRestarted = false;
+        clock.reset();
+        clock.resume();
         Initialize();
+        if (mode == Mode.FIXED_TIMESTEP) {
+            GameLoop();
+            return;
+        }
         Update();
         Render();
         PhysicsCalculation();
-        TimeStart();
+    }
+
+    /**
+     * Initializes and starts the single loop thread used in FIXED_TIMESTEP mode.
+     * Each frame, elapsed clock time is added to an accumulator which is drained in fixed physics steps
+     * (at most maxStepsPerFrame of them), after which onUpdate and onRender run once.
+     * In-game time advances by exactly one step per physics update, so it follows the clock's
+     * pause state and time scale while staying quantized to whole steps.
+     */
+    private synchronized void GameLoop() {
+        loopThread = new Thread(() -> {
+            final long stepNanos = 1_000_000_000L / physicsHz;
+            final long frameNanos = fps * 1_000_000L;
+            long simulatedNanos = 0;
+            long accumulator = 0;
+            long previous = clock.elapsedNanos();
+
+            while (running) {
+                awaitResume(true);
+                if (!running) {
+                    break;
+                }
+
+                long frameStart = System.nanoTime();
+                long now = clock.elapsedNanos(); // Frozen while paused, so no catch-up burst on resume
+                accumulator += now - previous;
+                previous = now;
+
+                int steps = 0;
+                runBoundaryTasks();
+                while (running) {
+                    if (takeTimelineRestart()) {
+                        // A new level was loaded: start its timeline from zero and leave the rest of the frame
+                        simulatedNanos = 0;
+                        accumulator = 0;
+                        previous = clock.elapsedNanos();
+                        break;
+                    }
+                    if (accumulator < stepNanos || steps >= maxStepsPerFrame) {
+                        break;
+                    }
+                    simulatedNanos += stepNanos;
+                    time = simulatedNanos / 1_000_000L;
+                    onAction.onTime(time);
+                    onAction.onPhysicsUpdate();
+                    accumulator -= stepNanos;
+                    steps++;
+                    runBoundaryTasks();
+                }
+                if (accumulator >= stepNanos) {
+                    accumulator %= stepNanos; // Drop the backlog that exceeded the per-frame cap
+                }
+
+                onAction.onUpdate();
+                onAction.onRender();
+
+                long sleepNanos = frameNanos - (System.nanoTime() - frameStart);
+                if (sleepNanos > 0) {
+                    try {
+                        Thread.sleep(sleepNanos / 1_000_000L, (int) (sleepNanos % 1_000_000L));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }, "GameLoop");
+        loopThread.start();
+    }
+
+    /**
+     * Blocks the calling thread while the game is paused, returning once it is resumed or the engine stops.
+     * Step-boundary tasks that arrive meanwhile are run with the engine's monitor released, so a long task
+     * such as a level load never holds up pause() or resume() on another thread.
+     *
+     * @param runTasks True on the thread that steps the physics, which runs the step-boundary tasks.
+     */
+    private void awaitResume(boolean runTasks) {
+        while (true) {
+            if (runTasks) {
+                runBoundaryTasks();
+            }
+            synchronized (this) {
+                if (!isPaused || !running) {
+                    return;
+                }
+                if (runTasks && !boundaryTasks.isEmpty()) {
+                    continue; // Queued after the drain above; run it before waiting
+                }
+                try {
+                    wait(); // Woken by resume(), stop() and runAtStepBoundary()
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
     }
 
     /**
@@ -117,10 +367,14 @@ public class GameEngine {
      */
     public void stop() {
         running = false;
+        synchronized (this) {
+            notifyAll(); // Wake any thread parked in awaitResume so it can exit
+        }
+        joinThread(loopThread);
         joinThread(updateThread);
         joinThread(renderThread);
         joinThread(physicsThread);
-        joinThread(timeThread);
+        runBoundaryTasks(); // Nothing steps the physics any more, so finish queued tasks here
     }
 
     /**
@@ -129,7 +383,7 @@ public class GameEngine {
      * @param thread The thread to join.
      */
     private void joinThread(Thread thread) {
-        if (thread != null) {
+        if (thread != null && thread != Thread.currentThread()) {
             try {
                 thread.join();
             } catch (InterruptedException e) {
@@ -145,14 +399,9 @@ public class GameEngine {
     private synchronized void Render() {
         renderThread = new Thread(() -> {
             while (running) {
-                synchronized (this) {
-                    while (isPaused) {
-                        try {
-                            wait();
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                        }
-                    }
+                awaitResume(false);
+                if (!running) {
+                    break;
                 }
                 try {
                     onAction.onRender();
@@ -166,36 +415,19 @@ public class GameEngine {
     }
 
     /**
-     * Starts the time tracking thread.
-     * This thread is responsible for managing and updating the in-game time.
-     */
-    private void TimeStart() {
-        timeThread = new Thread(() -> {
-            while (running) {
-                try {
-                    time++;
-                    onAction.onTime(time);
-                    Thread.sleep(1);
-                } catch (InterruptedException e) {
-                    // Optional: handle the InterruptedException
-                }
-            }
-        });
-        timeThread.start();
-    }
-
-    /**
-     * Pauses the game, suspending updates in all threads.
+     * Pauses the game, suspending updates in all threads and freezing in-game time.
      */
     public synchronized void pause() {
         isPaused = true;
+        clock.pause();
     }
 
     /**
-     * Resumes the game, allowing all threads to continue updates.
+     * Resumes the game, allowing all threads to continue updates and in-game time to advance.
      */
     public synchronized void resume() {
         isPaused = false;
+        clock.resume();
         notifyAll();
     }
 
@@ -0,0 +1,113 @@
+package brickGame.Model;
+
+import java.util.ArrayList;
+
+/**
+ * Complete state of a game in progress, free of any JavaFX types.
+ * The fields are mutated by {@link Simulation} and read by views, saving and tooling.
+ */
+public class GameState {
+
+    // Game environment dimensions and settings
+    public static final int SCENE_WIDTH = 500;
+    public static final int SCENE_HEIGHT = 700;
+    public static final int BREAK_WIDTH = 130;
+    public static final int BREAK_HEIGHT = 30;
+    public static final int HALF_BREAK_WIDTH = BREAK_WIDTH / 2;
+    public static final int BALL_RADIUS = 10;
+    public static final int LAST_LEVEL = 17;
+    public static final int START_HEARTS = 3;
+
+    // Progress
+    public int level = 0;
+    public int score = 0;
+    public int heart = START_HEARTS;
+    public int destroyedBlockCount = 0;
+
+    // Ball and paddle
+    public double xBall;
+    public double yBall;
+    public double vX = 1.000;
+    public double vY = 1.000;
+    public double xBreak = 0.0f;
+    public double yBreak = 640.0f;
+    public double centerBreakX;
+    public double paddleVelocity = 0; // Paddle speed in pixels per physics step, positive to the right
+
+    // Timing, in in-game milliseconds
+    public long time = 0;
+    public long hitTime = 0;
+    public long goldTime = 0;
+
+    // Status flags
+    public boolean isExistHeartBlock = false;
+    public boolean isGoldStatus = false;
+    public boolean levelComplete = false;
+    public boolean gameOver = false;
+    public boolean won = false;
+
+    // Ball direction and collision flags
+    public boolean goDownBall = true;
+    public boolean goRightBall = true;
+    public boolean collideToBreak = false;
+    public boolean collideToBreakAndMoveToRight = true;
+    public boolean collideToRightWall = false;
+    public boolean collideToLeftWall = false;
+    public boolean collideToRightBlock = false;
+    public boolean collideToBottomBlock = false;
+    public boolean collideToLeftBlock = false;
+    public boolean collideToTopBlock = false;
+
+    // Board contents
+    public int boardVersion = 0; // Bumped whenever the board is rebuilt, so views can tell boards apart
+    public final BlockStore blocks = new BlockStore();
+    public final ArrayList<BonusDrop> bonuses = new ArrayList<>();
+
+    /**
+     * Replaces this state with the contents of another, e.g. once a save has been loaded into a scratch state.
+     * The board version is left alone, since it belongs to whoever rebuilds the board; bonus drops are shared,
+     * not copied, so the other state must not be used afterwards.
+     *
+     * @param other The state to copy.
+     */
+    public void copyFrom(GameState other) {
+        level = other.level;
+        score = other.score;
+        heart = other.heart;
+        destroyedBlockCount = other.destroyedBlockCount;
+
+        xBall = other.xBall;
+        yBall = other.yBall;
+        vX = other.vX;
+        vY = other.vY;
+        xBreak = other.xBreak;
+        yBreak = other.yBreak;
+        centerBreakX = other.centerBreakX;
+        paddleVelocity = other.paddleVelocity;
+
+        time = other.time;
+        hitTime = other.hitTime;
+        goldTime = other.goldTime;
+
+        isExistHeartBlock = other.isExistHeartBlock;
+        isGoldStatus = other.isGoldStatus;
+        levelComplete = other.levelComplete;
+        gameOver = other.gameOver;
+        won = other.won;
+
+        goDownBall = other.goDownBall;
+        goRightBall = other.goRightBall;
+        collideToBreak = other.collideToBreak;
+        collideToBreakAndMoveToRight = other.collideToBreakAndMoveToRight;
+        collideToRightWall = other.collideToRightWall;
+        collideToLeftWall = other.collideToLeftWall;
+        collideToRightBlock = other.collideToRightBlock;
+        collideToBottomBlock = other.collideToBottomBlock;
+        collideToLeftBlock = other.collideToLeftBlock;
+        collideToTopBlock = other.collideToTopBlock;
+
+        blocks.copyFrom(other.blocks);
+        bonuses.clear();
+        bonuses.addAll(other.bonuses);
+    }
+}
@@ -45,11 +45,14 @@ public class LoadSave {
     public ArrayList<BlockSerializable> blocks; // List of serializable blocks
 
     /**
-     * Reads the saved game state from a file and updates the game state attributes.
+     * Reads a saved game state in the legacy serialized format from the given file.
      * Deserializes attributes such as level, scores, positions, and block information from the file.
+     * Used by {@link brickGame.Model.save.SaveFile} to migrate old saves.
+     *
+     * @param file The saved game file.
+     * @return true if the file was read completely, false if it could not be read.
      */
-    public void read() {
-        File file = new File(Main.savePath); // Path to the saved game file
+    public boolean read(File file) {
         try (ObjectInputStream inputStream = new ObjectInputStream(new FileInputStream(file))) {
             // Deserializing each game attribute from the file
             level = inputStream.readInt();
@@ -84,10 +87,12 @@ public class LoadSave {
                     blocks = (ArrayList<BlockSerializable>) tempList;
                 }
             }
+            return true;
         } catch (ClassNotFoundException e) {
             LOGGER.log(Level.SEVERE, "Class not found in LoadSave", e);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "IO Exception in LoadSave", e);
         }
+        return false;
     }
 }
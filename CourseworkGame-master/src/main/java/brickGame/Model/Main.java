@@ -1,25 +1,19 @@
 package brickGame.Model;
 
-import brickGame.View.Bonus;
+import brickGame.View.FxThread;
 import brickGame.View.Score;
 import brickGame.View.UserInterface;
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Pane;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
-import javafx.scene.shape.Circle;
-import javafx.scene.shape.Rectangle;
 import javafx.stage.Stage;
 import java.io.*;
-import java.util.ArrayList;
-import java.util.Random;
 import javafx.scene.media.MediaPlayer;
 import java.net.URL;
 import javafx.scene.layout.VBox;
@@ -28,32 +22,38 @@ import java.util.logging.Logger;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaView;
 import javafx.scene.layout.StackPane;
+import brickGame.Model.soundEffects.SoundBank;
 import brickGame.Model.soundEffects.SoundEffectUtil;
 import brickGame.View.imageEffects.ImageEffectUtil;
 import brickGame.Controller.GameController;
+import brickGame.Direction;
+import brickGame.Model.replay.InputRecorder;
+import brickGame.Model.save.AutosaveScheduler;
+import brickGame.Model.save.SaveJournal;
+import brickGame.Model.save.SaveSlotManager;
+import brickGame.Model.save.SaveWriter;
 import brickGame.View.stageEffects.StageEffectUtil;
+import brickGame.View.assets.AssetCache;
+import brickGame.View.renderer.CanvasRenderer;
+import brickGame.View.renderer.GameRenderer;
+import brickGame.View.renderer.RenderCommand;
+import brickGame.View.renderer.RenderCommandBuffer;
+import brickGame.View.renderer.SceneGraphRenderer;
 
 /**
  * Main class for the Brick Game.
- * Sets up the game environment, manages game states, handles user interactions,
- * and creates the main game window. This class is the entry point for the application.
+ * Sets up the game environment and the main game window, handles user interactions,
+ * and presents the state of a {@link Simulation} through a {@link GameRenderer}.
+ * The game rules themselves live in the simulation; this class is the entry point for the application.
  */
-public class Main extends Application implements EventHandler<KeyEvent>, GameEngine.OnAction {
+public class Main extends Application implements EventHandler<KeyEvent>, GameEngine.OnAction, SimulationListener {
 
     // Class variable declarations
     private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
-    // Game state variables
-    private int level = 0;
-    private double xBreak = 0.0f;
-    private double centerBreakX;
-    private double yBreak = 640.0f;
     private MediaPlayer backgroundMediaPlayer;
     // Game environment dimensions and settings
-    private final int breakWidth     = 130;
-    private final int breakHeight    = 30;
-    private final int halfBreakWidth = breakWidth / 2;
-    private final int sceneWidth = 500;
-    private final int sceneHeight = 700;
+    private final int sceneWidth = GameState.SCENE_WIDTH;
+    private final int sceneHeight = GameState.SCENE_HEIGHT;
     // UI components
     private Button load;
     private Button newGame;
@@ -61,58 +61,45 @@ public class Main extends Application implements EventHandler<KeyEvent>, GameEng
     private StackPane layeredRoot; // New StackPane to manage layers
     private VBox startMenuVBox; // Class-level variable for the VBox
     private VBox pauseMenuVBox; // Pause menu container
+    // Game state and rules
+    private final GameState state = new GameState();
+    private final Simulation simulation = new Simulation(state);
+    private InputRecorder recorder; // Records the session so it can be replayed, null once no longer reproducible
+    private static final String RECORDING_DIR = "recordings";
+    private static final String SAVE_DIR = "saves";
+    private final SaveWriter saveWriter = new SaveWriter(); // Writes saves off the game thread
+    private final SaveSlotManager slots = new SaveSlotManager(new File(SAVE_DIR), saveWriter);
+    private int currentSlot = 0; // Slot this game saves to, 0 until one is chosen
+    private boolean journaled = false; // Whether saves are journaled, set with --save=journal
+    private SaveJournal journal; // Logs changes to the current slot between full saves, in journaled mode
+    private final AutosaveScheduler autosave = new AutosaveScheduler(this::checkpoint); // Decides when to autosave
     // Game elements
-    private Circle ball;
-    private double xBall;
-    private double yBall;
-    private boolean isGoldStatus = false;
-    private boolean isExistHeartBlock = false;
-    private Rectangle rect;
-    private final int       ballRadius = 10;
-    private int destroyedBlockCount = 0;
-    private final double v = 1.000;
-    private int  heart    = 3;
-    private int  score    = 0;
-    private long time     = 0;
-    private long hitTime  = 0;
-    private long goldTime = 0;
+    private GameRenderer renderer; // Draws the playfield, chosen once at startup
+    private int paddleKeysDown = 0; // Paddle keys down as seen by the JavaFX thread
+    private AnimationTimer frameUpdater; // Pushes the latest state to the screen once per rendered frame
+    private final RenderCommandBuffer renderCommands = new RenderCommandBuffer(); // Screen changes asked for by the engine thread
+    private int shownScore = -1; // Score currently shown by scoreLabel
+    private int shownHeart = -1; // Hearts currently shown by heartLabel
     private GameEngine engine;
-    public static String savePath    = "D:/save/save.mdds";
-    public static String savePathDir = "D:/save/";
-    private final ArrayList<Block> blocks = new ArrayList<>();
-    private final ArrayList<Bonus> chocos = new ArrayList<>();
-    private final Color[]          colors = new Color[]{
-            Color.MAGENTA,
-            Color.RED,
-            Color.GOLD,
-            Color.CORAL,
-            Color.AQUA,
-            Color.VIOLET,
-            Color.GREENYELLOW,
-            Color.ORANGE,
-            Color.PINK,
-            Color.SLATEGREY,
-            Color.YELLOW,
-            Color.TOMATO,
-            Color.TAN,
-    };
     public  Pane             root;
     private Label            scoreLabel;
     private Label            heartLabel;
     private Label            levelLabel;
-    private boolean loadFromSave = false;
     private GameController gameController;
+    private MediaView gameOverVideo; // The game over video while it plays
     Stage  primaryStage;
 
     /**
      * Starts and initializes the game application.
-     * Sets up the primary stage, initializes game elements, and handles the main game loop.
+     * Sets up the primary stage and builds the game scene and the first board. Called once; the scene,
+     * its nodes and the engine are reused for every later level, restart and loaded game.
      * @param primaryStage The primary stage for this JavaFX application.
      * @throws Exception if an error occurs during initialization.
      */
     @Override
     public void start(Stage primaryStage) throws Exception {
         this.primaryStage = primaryStage;
+        AssetCache.preload(); // Decode the game's images in the background while the menu is up
 
         load = new Button("Load Game");
         newGame = new Button("Start New Game");
@@ -157,44 +144,42 @@ public class Main extends Application implements EventHandler<KeyEvent>, GameEng
         pauseMenuVBox.setVisible(false);
 
         //Call the Method in Application's Start Method
+        SoundBank.preload(); // Open the sound effects once, before anything needs to play them
         SoundEffectUtil.playBackgroundSound("/backgroundSound/wii.mp3");
 
-        if (!loadFromSave) {
-            level++;
-            if (level >1){
-                new Score().showMessage("Level Up :)", this);
-            }
-            //Win Game once reach Lvl 18
-            if (level == 18) {
-                new Score().showWin(this);
-                return;
-            }
-
-            initBall();
-            initBreak();
-            initBoard();
-
-
+        renderer = createRenderer();
+        journaled = "journal".equalsIgnoreCase(getParameters().getNamed().get("save"));
+        configureAutosave(getParameters().getNamed().get("autosave"));
+        if ("on".equalsIgnoreCase(getParameters().getNamed().get("fx-thread-checks"))) {
+            FxThread.setChecksEnabled(true);
         }
 
+        // Record the session from the very first board so it can be replayed from the seed
+        recorder = new InputRecorder(simulation.getSeed());
+        simulation.setRecorder(recorder);
+        simulation.setListener(this);
+        // Build each next board, and its views, in the background while the current level is played
+        simulation.getLevelGenerator().setPrefetchListener(renderer::prepareBoard);
+        simulation.getLevelGenerator().setPrefetching(true);
+        simulation.startNextLevel();
+
+        // The scene is built once; later levels, restarts and loaded games only replace the board
         root = new Pane();
-        scoreLabel = new Label("Score: " + score);
-        levelLabel = new Label("Level: " + level);
+        scoreLabel = new Label("Score: " + state.score);
+        levelLabel = new Label("Level: " + state.level);
         levelLabel.setTranslateY(20);
-        heartLabel = new Label("Heart : " + heart);
+        heartLabel = new Label("Heart : " + state.heart);
         heartLabel.setTranslateX(sceneWidth - 70);
 
         scoreLabel.setId("scoreLabel");
         heartLabel.setId("heartLabel");
         levelLabel.setId("levelLabel");
 
-        root.getChildren().addAll(rect, ball, scoreLabel, heartLabel, levelLabel, load, newGame, exitGame, pauseMenuVBox);
+        root.getChildren().addAll(scoreLabel, heartLabel, levelLabel, load, newGame, exitGame, pauseMenuVBox);
+        renderer.attach(root, state);
+        boardLoaded(); // The engine is not running yet, so the board is drawn on the next pulse
+        startFrameUpdater();
 
-        for (Block block : blocks) {
-            root.getChildren().add(block.getRect());
-        }
-
-        this.gameController = new GameController(this);
         Scene scene = new Scene(root, sceneWidth, sceneHeight);
 
         // Load the CSS file with error handling
@@ -206,11 +191,10 @@ public class Main extends Application implements EventHandler<KeyEvent>, GameEng
             scene.getStylesheets().add(resource.toExternalForm());
         }
 
-        scene.setOnKeyPressed(this);
-
         // Instantiate GameController and set it as the event handler
-        GameController gameController = new GameController(this);
+        gameController = new GameController(this);
         scene.setOnKeyPressed(gameController);
+        scene.setOnKeyReleased(gameController); // Releases stop the paddle
 
         primaryStage.setTitle("Game");
         primaryStage.setScene(scene);
@@ -232,44 +216,256 @@ public class Main extends Application implements EventHandler<KeyEvent>, GameEng
             exitGame.setLayoutY(sceneHeight / 2.0 + 70);
         });
 
-        if (!loadFromSave) {
-            if (level > 1 && level < 18) {
-                load.setVisible(false);
-                newGame.setVisible(false);
-                exitGame.setVisible(false);
-                engine = new GameEngine();
-                engine.setOnAction(this);
-                engine.setFps(120);
-                engine.start();
+        load.setOnAction(event -> showSlotMenu());
+
+        newGame.setOnAction(event -> {
+            useSlot(slots.nextFreeSlot());
+            startEngine();
+            load.setVisible(false);
+            newGame.setVisible(false);
+            exitGame.setVisible(false);
+        });
+
+        exitGame.setOnAction(event -> Platform.exit());
+    }
+
+    /**
+     * Creates and starts the game engine driving this game, once play begins.
+     * The engine runs a single fixed-timestep loop so physics and updates happen in a fixed order.
+     * It keeps running until the application exits; new boards are swapped in through {@link GameEngine#loadLevel(Runnable)}.
+     */
+    private void startEngine() {
+        engine = new GameEngine();
+        engine.setOnAction(this);
+        engine.setMode(GameEngine.Mode.FIXED_TIMESTEP);
+        engine.setPhysicsHz(Simulation.PHYSICS_HZ);
+        engine.setFps(120);
+        simulation.resetPaddleInput(paddleKeysDown); // The engine is not running yet, so this is safe here
+        engine.start();
+        if (currentSlot == 0) {
+            useSlot(slots.nextFreeSlot());
+        }
+        if (journal != null) {
+            // Every level starts from a fresh snapshot, since the board is new
+            engine.runAtStepBoundary(() -> compactJournal(System.nanoTime()));
+        }
+    }
+
+    /**
+     * Configures autosaving from the command line: {@code --autosave=N} checkpoints every N seconds of play,
+     * and {@code --autosave=off} disables autosaving. Level-ups and lost hearts also trigger a checkpoint.
+     *
+     * @param setting The value of the autosave parameter, or null for the defaults.
+     */
+    private void configureAutosave(String setting) {
+        int triggers = AutosaveScheduler.INTERVAL | AutosaveScheduler.HEART_LOST;
+        if (!journaled) {
+            triggers |= AutosaveScheduler.LEVEL_UP; // A journal already starts from a new snapshot every level
+        }
+        if ("off".equalsIgnoreCase(setting)) {
+            triggers = 0;
+        } else if (setting != null) {
+            try {
+                autosave.setIntervalSeconds(Double.parseDouble(setting));
+            } catch (NumberFormatException e) {
+                LOGGER.warning("Ignoring invalid autosave interval: " + setting);
             }
+        }
+        autosave.setEnabledTriggers(triggers);
+    }
 
-            load.setOnAction(event -> {
-                loadGame();
-                load.setVisible(false);
-                newGame.setVisible(false);
-                exitGame.setVisible(false);
-            });
-
-            newGame.setOnAction(event -> {
-                engine = new GameEngine();
-                engine.setOnAction(this);
-                engine.setFps(120);
-                engine.start();
-                load.setVisible(false);
-                newGame.setVisible(false);
-                exitGame.setVisible(false);
-            });
-
-            exitGame.setOnAction(event -> Platform.exit());
+    /**
+     * Writes an autosave checkpoint to the current slot. Called by the autosave scheduler at a step boundary.
+     */
+    private void checkpoint() {
+        long requestedAt = System.nanoTime();
+        if (journal != null) {
+            compactJournal(requestedAt);
+            return;
+        }
+        try {
+            slots.save(currentSlot, state, requestedAt);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error autosaving game", e);
+        }
+    }
 
-        } else {
-            engine = new GameEngine();
-            engine.setOnAction(this);
-            engine.setFps(120);
-            engine.start();
-            loadFromSave = false;
+    /**
+     * Makes a slot the one this game saves to, starting a journal for it in journaled mode.
+     *
+     * @param slot The slot number.
+     */
+    private void useSlot(int slot) {
+        if (journal != null && slot != currentSlot) {
+            journal.close();
+            journal = null;
+        }
+        currentSlot = slot;
+        if (journaled && journal == null) {
+            journal = new SaveJournal(slots.slotFile(slot), saveWriter);
+        }
+    }
+
+    /**
+     * Shows the list of save slots on the start menu, read from the slot index.
+     */
+    private void showSlotMenu() {
+        VBox slotMenu = UserInterface.createSlotMenu(slots.list(), slot -> {
+            load.setVisible(false);
+            newGame.setVisible(false);
+            exitGame.setVisible(false);
+            if (!loadGame(slot)) {
+                // Back to the start menu, which is untouched by the failed load
+                load.setVisible(true);
+                newGame.setVisible(true);
+                exitGame.setVisible(true);
+                new Score().showMessage("Could not load save " + slot, this);
+            }
+        }, () -> {
+            load.setVisible(true);
+            newGame.setVisible(true);
+            exitGame.setVisible(true);
+        });
+        slotMenu.setPrefWidth(sceneWidth);
+        slotMenu.setLayoutY(sceneHeight / 4.0);
+
+        load.setVisible(false);
+        newGame.setVisible(false);
+        exitGame.setVisible(false);
+        root.getChildren().add(slotMenu);
+    }
+
+    /**
+     * Writes a new base snapshot for the save journal. Must run at a step boundary.
+     *
+     * @param requestedAt System.nanoTime() when the save was requested.
+     */
+    private void compactJournal(long requestedAt) {
+        try {
+            journal.compact(state, requestedAt);
+            slots.recordSlot(currentSlot, state);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error saving game", e);
+        }
+    }
+
+    /**
+     * Starts the frame updater on first use.
+     * The labels were just recreated, so the values they show are forgotten.
+     */
+    private void startFrameUpdater() {
+        shownScore = -1;
+        shownHeart = -1;
+        if (frameUpdater == null) {
+            frameUpdater = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    updateFrame();
+                }
+            };
+            frameUpdater.start();
+        }
+    }
+
+    /**
+     * Applies the render commands queued by the engine thread, then shows the most recently published snapshot.
+     * Called once per JavaFX pulse. Snapshots published since the last pulse are skipped, and the playfield
+     * is not touched if no new one was published.
+     */
+    private void updateFrame() {
+        renderCommands.applyAll(this::applyRenderCommand);
+
+        FrameSnapshot frame = simulation.getSnapshots().acquireLatest();
+        if (frame == null) {
+            return;
         }
 
+        if (frame.score != shownScore) {
+            shownScore = frame.score;
+            scoreLabel.setText("Score: " + shownScore);
+        }
+        if (frame.heart != shownHeart) {
+            shownHeart = frame.heart;
+            heartLabel.setText("Heart : " + shownHeart);
+        }
+
+        renderer.render(frame);
+        simulation.onFrameRendered(System.nanoTime());
+    }
+
+    /**
+     * Carries out one render command on the JavaFX thread.
+     *
+     * @param command The command to apply.
+     */
+    private void applyRenderCommand(RenderCommand command) {
+        switch (command.type) {
+            case RenderCommand.SCORE_POPUP:
+                new Score().show(command.x, command.y, command.value, this);
+                break;
+            case RenderCommand.IMAGE_EFFECT:
+                showImageEffect(command.value);
+                break;
+            case RenderCommand.SHAKE_STAGE:
+                StageEffectUtil.shakeStage(primaryStage);
+                break;
+            case RenderCommand.BOARD_LOADED:
+                renderer.loadBoard(command.board, command.boardVersion);
+                levelLabel.setText("Level: " + command.value);
+                break;
+            case RenderCommand.LEVEL_UP:
+                new Score().showMessage("Level Up :)", this);
+                break;
+            case RenderCommand.GAME_WON:
+                new Score().showWin(this);
+                break;
+            case RenderCommand.GAME_OVER:
+                renderCommands.add(RenderCommand.of(RenderCommand.GAME_OVER, 0));
+                break;
+            case RenderCommand.CANCEL_EFFECTS:
+                ImageEffectUtil.cancelAll();
+                break;
+            default:
+                LOGGER.warning("Unknown render command " + command.type);
+        }
+    }
+
+    /**
+     * Shows one of the full-screen image effects on the current root pane.
+     *
+     * @param effect One of the RenderCommand.EFFECT_ constants.
+     */
+    private void showImageEffect(int effect) {
+        switch (effect) {
+            case RenderCommand.EFFECT_HEART_LOST:
+                ImageEffectUtil.showHeartDeductedImage(root, sceneWidth, sceneHeight);
+                break;
+            case RenderCommand.EFFECT_HEART_GAINED:
+                ImageEffectUtil.showHeartAddedImage(root, sceneWidth, sceneHeight);
+                break;
+            case RenderCommand.EFFECT_BONUS:
+                ImageEffectUtil.showBonusImage(root, sceneWidth, sceneHeight);
+                break;
+            case RenderCommand.EFFECT_GOLDEN_BALL:
+                ImageEffectUtil.showGoldenBallImage(root, sceneWidth, sceneHeight);
+                break;
+        }
+    }
+
+    /**
+     * Creates the renderer selected on the command line.
+     * Passing {@code --renderer=canvas} draws the playfield on a single canvas; otherwise every
+     * block, bonus, the paddle and the ball get their own scene-graph node.
+     *
+     * @return The renderer to draw the playfield with.
+     */
+    private GameRenderer createRenderer() {
+        String choice = getParameters() == null ? null : getParameters().getNamed().get("renderer");
+        if ("canvas".equalsIgnoreCase(choice)) {
+            LOGGER.info("Using canvas renderer");
+            return new CanvasRenderer();
+        }
+        return new SceneGraphRenderer();
     }
 
     /**
@@ -293,35 +489,6 @@ public class Main extends Application implements EventHandler<KeyEvent>, GameEng
         }
     }
 
-    /**
-     * Initializes the game board by creating and placing blocks.
-     * The number and types of blocks depend on the current game level.
-     */
-    private void initBoard() {
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < level + 1; j++) {
-                int r = new Random().nextInt(500);
-
-                int type;
-                if (r % 10 == 1) {
-                    type = Block.getBlockChoco();
-                } else if (r % 10 == 2) {
-                    if (!isExistHeartBlock) {
-                        type = Block.getBlockHeart();
-                        isExistHeartBlock = true;
-                    } else {
-                        type = Block.getBlockNormal();
-                    }
-                } else if (r % 10 == 3) {
-                    type = Block.getBlockStar();
-                } else {
-                    type = Block.getBlockNormal();
-                }
-                blocks.add(new Block(j, i, colors[r % (colors.length)], type));
-            }
-        }
-    }
-
     /**
      * Handles key events for the game, delegating to the GameController.
      * @param event The KeyEvent to handle.
@@ -332,18 +499,42 @@ public class Main extends Application implements EventHandler<KeyEvent>, GameEng
     }
 
     /**
-     * Updates the position of the player's paddle in response to user input.
-     * This method adjusts the paddle's horizontal position based on the specified delta value,
-     * ensuring that the paddle stays within the bounds of the game scene.
+     * Records that a paddle key was pressed or released.
+     * The event is timestamped and queued for the simulation, which applies it at the next step boundary
+     * and steers the paddle from the held keys, so the session stays replayable.
+     * Auto-repeated presses are skipped, and while the engine is not stepping only the keys held are tracked.
      *
-     * @param delta The amount to move the paddle. Positive values move the paddle to the right,
-     *              while negative values move it to the left.
+     * @param direction The direction key.
+     * @param down      True if the key was pressed, false if released.
+     */
+    public void setPaddleKey(Direction direction, boolean down) {
+        int key = direction == Direction.LEFT ? PaddleInput.LEFT : PaddleInput.RIGHT;
+        if (down == ((paddleKeysDown & key) != 0)) {
+            return; // Auto-repeat of a key that is already down
+        }
+        paddleKeysDown = down ? paddleKeysDown | key : paddleKeysDown & ~key;
+        if (engine == null || engine.isPaused()) {
+            return; // Nothing drains the ring until the engine runs, which starts from paddleKeysDown
+        }
+        if (!simulation.getInputEvents().offer(key, down, System.nanoTime())) {
+            LOGGER.warning("Input event ring full, dropped a key event");
+        }
+    }
+
+    /**
+     * Writes the input recording of this session to the recordings directory, if one is being kept.
+     * The recording is rewritten in full each time, so it always covers the session up to now.
      */
-    public void updatePaddlePosition(int delta) {
-        // Update xBreak within the bounds of the scene
-        if ((delta > 0 && xBreak + breakWidth < sceneWidth) || (delta < 0 && xBreak > 0)) {
-            xBreak += delta;
-            centerBreakX = xBreak + halfBreakWidth;
+    private void saveRecording() {
+        if (recorder == null) {
+            return;
+        }
+        File file = new File(RECORDING_DIR, "session-" + simulation.getSeed() + ".rec");
+        try {
+            recorder.save(file, simulation.getTotalTicks());
+            LOGGER.info("Session recorded to " + file.getPath());
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error saving session recording", e);
         }
     }
 
@@ -354,7 +545,7 @@ public class Main extends Application implements EventHandler<KeyEvent>, GameEng
      */
     public void togglePause() {
         if (engine.isPaused()) {
-            engine.resume();
+            resumeEngine();
             pauseMenuVBox.setVisible(false); // Hides the pause menu when the game is resumed
             SoundEffectUtil.playBackgroundMusic(); // Resume the background sound
         } else {
@@ -388,13 +579,23 @@ public class Main extends Application implements EventHandler<KeyEvent>, GameEng
         mediaView.setPreserveRatio(true);
 
         root.getChildren().add(mediaView);
+        gameOverVideo = mediaView;
 
         mediaPlayer.play();
 
-        mediaPlayer.setOnEndOfMedia(() -> {
-            root.getChildren().remove(mediaView);
-            mediaPlayer.dispose();
-        });
+        mediaPlayer.setOnEndOfMedia(this::stopGameOverVideo);
+    }
+
+    /**
+     * Stops the game over video, if it is still playing, and removes it from the root pane.
+     */
+    private void stopGameOverVideo() {
+        if (gameOverVideo == null) {
+            return;
+        }
+        gameOverVideo.getMediaPlayer().dispose();
+        root.getChildren().remove(gameOverVideo);
+        gameOverVideo = null;
     }
 
     /**
@@ -406,544 +607,306 @@ public class Main extends Application implements EventHandler<KeyEvent>, GameEng
     }
 
     /**
-     * Initializes the ball for the game.
-     * Sets the initial position and graphical representation of the ball.
+     * Saves the current game state to the current save slot.
+     * In journaled mode the save becomes the journal's new base snapshot.
      */
-    private void initBall() {
-        // Set fixed coordinates for the ball's initial position
-        xBall = sceneWidth / 2.0; // Spawn in the middle of the scene width-wise
-        yBall = sceneHeight / 2.0; // Spawn in the middle of the scene height-wise
-
-        ball = new Circle();
-        ball.setRadius(ballRadius);
-        ball.setFill(loadImagePattern("ball.png"));
+    public void saveGame() {
+        final long requestedAt = System.nanoTime();
+        if (currentSlot == 0) {
+            useSlot(slots.nextFreeSlot());
+        }
+        final int slot = currentSlot;
+        Runnable snapshot = journal != null ? () -> compactJournal(requestedAt) : () -> {
+            // Runs between two physics steps, so the encoded state is consistent; encoding takes microseconds
+            try {
+                slots.save(slot, state, requestedAt);
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Error saving game", e);
+            }
+        };
+        if (engine != null) {
+            engine.runAtStepBoundary(snapshot);
+        } else {
+            snapshot.run();
+        }
     }
 
     /**
-     * Initializes the player's paddle, often referred to as the "breaker", with its starting position and graphical appearance.
-     * This method sets up the paddle as a rectangle with predefined dimensions and positions it at the bottom of the game scene.
-     * It also applies a graphical pattern to the paddle for visual appeal.
+     * Loads a saved game from a save slot and continues playing it; later saves go to the same slot.
+     * Only offered on the start menu, so the engine has not started yet and the state can be replaced directly.
+     * The save is decoded into a scratch state first, so a failed load leaves the current state untouched.
+     *
+     * @param slot The slot to load.
+     * @return True if the game was loaded and started, false if the slot could not be loaded.
      */
-    private void initBreak() {
-        rect = new Rectangle();
-        rect.setWidth(breakWidth); // Sets the width of the paddle
-        rect.setHeight(breakHeight); // Sets the height of the paddle
-        rect.setX(xBreak); // Positions the paddle horizontally based on the starting X-coordinate
-        rect.setY(yBreak); // Positions the paddle vertically at a predefined Y-coordinate.
-        rect.setFill(loadImagePattern("block.png")); // Applies an image pattern to the paddle for visual styling.
+    private boolean loadGame(int slot) {
+        GameState loaded = new GameState();
+        loaded.copyFrom(state); // Fields a legacy save does not store keep their current values
+        try {
+            slots.load(slot, loaded); // Replays the slot's journal, if any, onto its snapshot
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error loading game", e);
+            return false;
+        }
+        if (loaded.heart <= 0) {
+            LOGGER.warning("Save slot " + slot + " holds a game that is already over");
+            return false;
+        }
+        state.copyFrom(loaded);
+        simulation.rebuildIndex();
+        LOGGER.info("Game loaded successfully from save slot " + slot);
+
+        // A loaded game cannot be reproduced from the seed, so stop recording here
+        saveRecording();
+        simulation.setRecorder(null);
+        recorder = null;
+
+        boardLoaded();
+        useSlot(slot);
+        startEngine();
+        return true;
     }
 
     /**
-     * Loads an image pattern from a given file path.
-     * Used to create graphical representations for game objects.
-     *
-     * @param imagePath The path to the image file.
-     * @return The loaded ImagePattern.
+     * Publishes a freshly built board: asks the JavaFX thread to swap in its views and publishes its first snapshot.
+     * Called by level loaders, on the thread that steps the simulation or before the engine has started.
      */
-    private ImagePattern loadImagePattern(String imagePath) {
-        return new ImagePattern(new Image(imagePath));
+    private void boardLoaded() {
+        renderCommands.add(RenderCommand.boardLoaded(simulation.getBoardLayout(), state.boardVersion, state.level));
+        simulation.publishSnapshot();
     }
-    private boolean goDownBall                  = true;
-    private boolean goRightBall                 = true;
-    private boolean collideToBreak = false;
-    private boolean collideToBreakAndMoveToRight = true;
-    private boolean collideToRightWall = false;
-    private boolean collideToLeftWall = false;
-    private boolean collideToRightBlock = false;
-    private boolean collideToBottomBlock = false;
-    private boolean collideToLeftBlock = false;
-    private boolean collideToTopBlock = false;
-    private double vX = 1.000;
-    private double vY = 1.000;
 
     /**
-     * Resets all collision flags to their default state.
-     * This method is used to clear any existing collision states of the ball with various objects,
-     * ensuring that collision detection can occur afresh in each frame of the game.
+     * Advances the game to the next level in place. The board is rebuilt at the next step boundary while the
+     * engine keeps running, and the screen catches up on the next pulse.
      */
-    private void resetCollideFlags() {
-
-        collideToBreak = false;
-        collideToBreakAndMoveToRight = false;
-        collideToRightWall = false;
-        collideToLeftWall = false;
+    private void nextLevel() {
+        engine.loadLevel(() -> {
+            simulation.resetForNextLevel();
+            simulation.startNextLevel();
+            boardLoaded();
 
-        collideToRightBlock = false;
-        collideToBottomBlock = false;
-        collideToLeftBlock = false;
-        collideToTopBlock = false;
+            //Win Game once reach Lvl 18
+            if (state.won) {
+                engine.pause(); // Nothing left to play
+                renderCommands.add(RenderCommand.of(RenderCommand.GAME_WON, 0));
+                saveRecording();
+                return;
+            }
+            renderCommands.add(RenderCommand.of(RenderCommand.LEVEL_UP, state.level));
+            autosave.trigger(AutosaveScheduler.LEVEL_UP); // Taken at the first step of the new level
+            if (journal != null) {
+                compactJournal(System.nanoTime()); // Every level starts from a fresh snapshot, since the board is new
+            }
+        });
     }
 
     /**
-     * Updates the physics of the ball, including its movement and collision handling.
-     * This method determines the ball's behavior based on its position, collisions with the paddle,
-     * walls, and blocks, and adjusts its direction and speed accordingly.
+     * Resumes the paused engine from the paddle keys actually down now, discarding key events that were
+     * queued while it was paused.
      */
-    private void setPhysicsToBall() {
-        // Ball movement: vertical direction
-        if (goDownBall) {
-            yBall += vY; // Moves the ball downwards if directed downwards
-        } else {
-            yBall -= vY; // Moves the ball upwards if not directed downwards
-        }
-
-        // Ball movement: horizontal direction
-        if (goRightBall) {
-            xBall += vX; // Moves the ball to the right if directed to the right
-        } else {
-            xBall -= vX; // Moves the ball to the left if not directed to the right
-        }
-
-        // Collision handling with the top boundary of the scene
-        if (yBall <= 0) {
-            resetCollideFlags();
-            goDownBall = true;
-            return;
-        }
-
-        // Collision handling with the bottom boundary of the scene
-        if (yBall >= sceneHeight) {
-            goDownBall = false;
-            if (!isGoldStatus) {
-                // Code for handling when the ball misses the paddle and is not in gold status
-                heart--;
-                SoundEffectUtil.playMinusHeartSoundEffect();
-                StageEffectUtil.shakeStage(primaryStage);
-                ImageEffectUtil.showHeartDeductedImage(root, sceneWidth, sceneHeight);
-
-                // Game over condition check
-                if (heart == 0) {
-                    new Score().showGameOver(this);
-                    engine.stop();
-                }
-            }
-        }
-
-        // Collision handling with the paddle
-        if (yBall >= yBreak - ballRadius) {
-
-            if (xBall >= xBreak && xBall <= xBreak + breakWidth) {
-                hitTime = time;
-                resetCollideFlags();
-                collideToBreak = true;
-                goDownBall = false;
-
-                // Code to adjust the ball's horizontal velocity based on collision point
-                double relation = (xBall - centerBreakX) / (breakWidth / 2.0);
-
-                // Adjusting ball's horizontal speed based on collision point with paddle
-                if (Math.abs(relation) <= 0.3) {
-                    vX = Math.abs(relation);
-                } else if (Math.abs(relation) > 0.3 && Math.abs(relation) <= 0.7) {
-                    vX = (Math.abs(relation) * 1.5) + (level / 3.500);
-                } else {
-                    vX = (Math.abs(relation) * 2) + (level / 3.500);
-                }
+    private void resumeEngine() {
+        int keys = paddleKeysDown;
+        engine.runAtStepBoundary(() -> simulation.resetPaddleInput(keys));
+        engine.resume();
+    }
 
-                collideToBreakAndMoveToRight = xBall - centerBreakX > 0;
+    /**
+     * Restarts the entire game from the first level, reusing the running engine and the scene.
+     */
+    public void restartGame() {
+        stopGameOverVideo();
+        engine.loadLevel(() -> {
+            simulation.resetGame();
+            simulation.startNextLevel();
+            autosave.cancelPending(); // Nothing from the lost game may overwrite the slot
+            renderCommands.add(RenderCommand.of(RenderCommand.CANCEL_EFFECTS, 0)); // The reused scene starts clean
+            boardLoaded();
+            if (journal != null) {
+                compactJournal(System.nanoTime());
             }
+        });
+        if (engine.isPaused()) {
+            resumeEngine(); // Paused at game over
         }
+    }
 
-        // Collision handling with the right and left walls
-        if (xBall >= sceneWidth) {
-            resetCollideFlags();
-            collideToRightWall = true;
-        }
-
-        if (xBall <= 0) {
-            resetCollideFlags();
-            collideToLeftWall = true;
-        }
-
-        // Updating ball direction after collisions
-        if (collideToBreak) {
-            goRightBall = collideToBreakAndMoveToRight;
-        }
-
-        //Wall Collide
-
-        if (collideToRightWall) {
-            goRightBall = false;
-        }
-
-        if (collideToLeftWall) {
-            goRightBall = true;
-        }
-
-        //Block Collide
+    /**
+     * Called once per frame of physics steps. Nothing to do here: every step publishes its own snapshot,
+     * which the frame updater picks up on its next pulse.
+     */
+    @Override
+    public void onUpdate() {
 
-        if (collideToRightBlock) {
-            goRightBall = true;
-        }
+    }
 
-        if (collideToLeftBlock) {
-            goRightBall = true;
-        }
+    /**
+     * Handles rendering of the game, if necessary.
+     */
+    @Override
+    public void onRender() {
 
-        if (collideToTopBlock) {
-            goDownBall = false;
-        }
+    }
 
-        if (collideToBottomBlock) {
-            goDownBall = true;
-        }
+    /**
+     * Performs initial setup for the game.
+     */
+    @Override
+    public void onInit() {
 
     }
 
     /**
-     * Checks if all blocks have been destroyed and proceeds to the next level if so.
+     * Stops the game, typically called when the application is closing.
      */
-    private void checkDestroyedCount() {
-        if (destroyedBlockCount == blocks.size()) {
-
-            nextLevel();
+    @Override
+    public void stop() {
+        if (backgroundMediaPlayer != null) {
+            backgroundMediaPlayer.stop();
+        }
+        if (engine != null) {
+            engine.stop();
         }
+        saveRecording();
+        LOGGER.info(AssetCache.report());
+        LOGGER.info(SoundBank.report());
+        LOGGER.info(simulation.inputLatencyReport());
+        LOGGER.info(renderCommands.report());
+        LOGGER.info(simulation.getLevelGenerator().report());
+        if (journal != null) {
+            journal.close();
+        }
+        LOGGER.info(autosave.report());
+        LOGGER.info(saveWriter.report());
+        saveWriter.shutdown(2000); // Let a save that is still being written finish
     }
 
     /**
-     * Saves the current game state to a file.
+     * Updates the physics aspects of the game, such as ball movement and collision detection.
      */
-    public void saveGame() {
-        new Thread(() -> {
-            // Define the relative path for the directory
-            String relativeDir = "saves";
-            File directory = new File(relativeDir);
-            if (!directory.exists()) {
-                directory.mkdirs(); // Create the directory if it doesn't exist
-            }
-
-            // Define the file name
-            String saveFileName = "save.mdds";
-            File file = new File(directory, saveFileName);
-
-            // Save game data to the file
-            try (ObjectOutputStream outputStream = new ObjectOutputStream(new FileOutputStream(file))) {
-                // Write game data to the file
-                outputStream.writeInt(level);
-                outputStream.writeInt(score);
-                outputStream.writeInt(heart);
-                outputStream.writeInt(destroyedBlockCount);
-                outputStream.writeDouble(xBall);
-                outputStream.writeDouble(yBall);
-                outputStream.writeDouble(xBreak);
-                outputStream.writeDouble(yBreak);
-                outputStream.writeDouble(centerBreakX);
-                outputStream.writeLong(time);
-                outputStream.writeLong(goldTime);
-                outputStream.writeDouble(vX);
-                outputStream.writeBoolean(isExistHeartBlock);
-                outputStream.writeBoolean(isGoldStatus);
-                outputStream.writeBoolean(goDownBall);
-                outputStream.writeBoolean(goRightBall);
-                outputStream.writeBoolean(collideToBreak);
-                outputStream.writeBoolean(collideToBreakAndMoveToRight);
-                outputStream.writeBoolean(collideToRightWall);
-                outputStream.writeBoolean(collideToLeftWall);
-                outputStream.writeBoolean(collideToRightBlock);
-                outputStream.writeBoolean(collideToBottomBlock);
-                outputStream.writeBoolean(collideToLeftBlock);
-                outputStream.writeBoolean(collideToTopBlock);
-
-                // Serialize and write the blocks array
-                ArrayList<BlockSerializable> blockSerializable = new ArrayList<>();
-                for (Block block : blocks) {
-                    if (!block.isDestroyed()) {
-                        String colorString = block.getColor().toString(); // Convert color to string
-                        blockSerializable.add(new BlockSerializable(block.getRow(), block.getColumn(), block.getType(), colorString));
-                    }
-                }
-
-                outputStream.writeObject(blockSerializable);
-
-                LOGGER.info("Game saved successfully to " + file.getPath());
-            } catch (IOException e) {
-                LOGGER.log(Level.SEVERE, "Error saving game", e);
-            }
-        }).start();
-    }
-
-    /**
-     * Loads a saved game state from a file.
-     */
-    private void loadGame() {
-        // Define the relative path for the directory and file
-        String relativeDir = "saves";
-        String saveFileName = "save.mdds";
-        File file = new File(relativeDir, saveFileName);
-
-        // Load game data from the file
-        if (file.exists()) {
-            try (ObjectInputStream inputStream = new ObjectInputStream(new FileInputStream(file))) {
-                // Read game data from the file
-                level = inputStream.readInt();
-                score = inputStream.readInt();
-                heart = inputStream.readInt();
-                destroyedBlockCount = inputStream.readInt();
-                xBall = inputStream.readDouble();
-                yBall = inputStream.readDouble();
-                xBreak = inputStream.readDouble();
-                yBreak = inputStream.readDouble();
-                centerBreakX = inputStream.readDouble();
-                time = inputStream.readLong();
-                goldTime = inputStream.readLong();
-                vX = inputStream.readDouble();
-                isExistHeartBlock = inputStream.readBoolean();
-                isGoldStatus = inputStream.readBoolean();
-                goDownBall = inputStream.readBoolean();
-                goRightBall = inputStream.readBoolean();
-                collideToBreak = inputStream.readBoolean();
-                collideToBreakAndMoveToRight = inputStream.readBoolean();
-                collideToRightWall = inputStream.readBoolean();
-                collideToLeftWall = inputStream.readBoolean();
-                collideToRightBlock = inputStream.readBoolean();
-                collideToBottomBlock = inputStream.readBoolean();
-                collideToLeftBlock = inputStream.readBoolean();
-                collideToTopBlock = inputStream.readBoolean();
-
-                // Deserialize and read the blocks array
-                ArrayList<BlockSerializable> blockSerializable = (ArrayList<BlockSerializable>) inputStream.readObject();
-                blocks.clear();
-                chocos.clear();
-                for (BlockSerializable ser : blockSerializable) {
-
-                    Color color = Color.valueOf(ser.colorString); // Convert string back to color
-                    blocks.add(new Block(ser.row, ser.j, color, ser.type));
-                }
-
-                LOGGER.info("Game loaded successfully from " + file.getPath());
-                loadFromSave = true;
-
-                try {
-                    start(primaryStage);
-                } catch (Exception e) {
-                    LOGGER.log(Level.SEVERE, "Error starting the game from loadGame", e);
-                }
-            } catch (IOException | ClassNotFoundException e) {
-                LOGGER.log(Level.SEVERE, "Error loading game", e);
+    @Override
+    public void onPhysicsUpdate() {
+        // Both stages run once per physics step, in the same order as Simulation.step(), so replays match
+        simulation.physicsStep();
+        simulation.updateStep();
+        if (!state.gameOver && !state.won) {
+            if (journal != null) {
+                journal.onStep(state, simulation.getTotalTicks());
             }
-        } else {
-            LOGGER.log(Level.WARNING, "Save file does not exist: " + file.getPath());
+            autosave.onStep(Simulation.STEP_NANOS);
         }
+        simulation.publishSnapshot(); // Last, so the snapshot shows the completed step
     }
 
     /**
-     * Advances the game to the next level, resetting necessary variables and states.
+     * Updates the in-game timer.
+     * @param time The current time value.
      */
-    private void nextLevel() {
-        Platform.runLater(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    vX = 1.000;
-
-                    engine.stop();
-                    resetCollideFlags();
-                    goDownBall = true;
-
-                    isGoldStatus = false;
-                    isExistHeartBlock = false;
-
-
-                    hitTime = 0;
-                    time = 0;
-                    goldTime = 0;
-
-                    engine.stop();
-                    blocks.clear();
-                    chocos.clear();
-                    destroyedBlockCount = 0;
-                    start(primaryStage);
-
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }
-        });
+    @Override
+    public void onTime(long time) {
+        simulation.setTime(time);
     }
 
     /**
-     * Restarts the entire game, resetting all game variables and states.
+     * Shows the points a destroyed block earned. The block itself is hidden by the next snapshot.
+     * @param index The index of the block in the block store.
      */
-    public void restartGame() {
-
-        try {
-            level = 0;
-            heart = 3;
-            score = 0;
-            vX = 1.000;
-            destroyedBlockCount = 0;
-            resetCollideFlags();
-            goDownBall = true;
-
-            isGoldStatus = false;
-            isExistHeartBlock = false;
-            hitTime = 0;
-            time = 0;
-            goldTime = 0;
-
-            blocks.clear();
-            chocos.clear();
-
-            start(primaryStage);
-        } catch (Exception e) {
-            e.printStackTrace();
+    @Override
+    public void onBlockDestroyed(int index) {
+        renderCommands.add(RenderCommand.scorePopup(state.blocks.getX(index), state.blocks.getY(index), 1));
+        if (journal != null) {
+            journal.recordBlockDestroyed(state, index);
         }
     }
 
     /**
-     * Updates the game state, typically called in each frame.
+     * Plays the effects of a caught bonus. The bonus itself is hidden by the next snapshot.
+     * @param bonusIndex The index of the bonus in the state's bonus list.
      */
     @Override
-    public void onUpdate() {
-        Platform.runLater(new Runnable() {
-
-            @Override
-            public void run() {
-
-
-                scoreLabel.setText("Score: " + score);
-                heartLabel.setText("Heart : " + heart);
-
-                rect.setX(xBreak);
-                rect.setY(yBreak);
-                ball.setCenterX(xBall);
-                ball.setCenterY(yBall);
+    public void onBonusTaken(int bonusIndex) {
+        BonusDrop drop = state.bonuses.get(bonusIndex);
+        System.out.println("You Got it and +3 score for you");
+        if (journal != null) {
+            journal.recordScore(state.score);
+        }
 
-                for (Bonus choco : chocos) {
-                    choco.choco.setY(choco.y);
-                }
-            }
-        });
+        renderCommands.add(RenderCommand.of(RenderCommand.IMAGE_EFFECT, RenderCommand.EFFECT_BONUS));
+        SoundEffectUtil.playBonusSoundEffect();
 
+        renderCommands.add(RenderCommand.scorePopup(drop.x, drop.y, 3));
+    }
 
-        if (yBall >= Block.getPaddingTop() && yBall <= (Block.getHeight() * (level + 1)) + Block.getPaddingTop()) {
-            for (final Block block : blocks) {
-                int hitCode = block.checkHitToBlock(xBall, yBall, ballRadius);
-                if (hitCode != Block.getNoHit()) { // Updated to use the getter method
-                    score += 1;
-
-                    // Use getters to access the properties of Block
-                    new Score().show(block.getX(), block.getY(), 1, this);
-
-                    // Use the setter methods to modify Block instances
-                    block.getRect().setVisible(false);
-                    block.setDestroyed(true);
-
-                    destroyedBlockCount++;
-                    resetCollideFlags();
-
-                    // Use getters for block type checks
-                    if (block.getType() == Block.getBlockChoco()) {
-                        final Bonus choco = new Bonus(block.getRow(), block.getColumn());
-                        choco.timeCreated = time;
-                        Platform.runLater(new Runnable() {
-                            @Override
-                            public void run() {
-                                root.getChildren().add(choco.choco);
-                            }
-                        });
-                        chocos.add(choco);
-                    }
-
-                    if (block.getType() == Block.getBlockStar()) {
-                        System.out.println("You are Invincible for 12 seconds!");
-                        goldTime = time;
-                        ball.setFill(new ImagePattern(new Image("goldball.png")));
-                        root.getStyleClass().add("goldRoot");
-                        isGoldStatus = true;
-
-                        ImageEffectUtil.showGoldenBallImage(root, sceneWidth, sceneHeight); // Call to display the golden ball image
-                    }
-
-                    if (block.getType() == Block.getBlockHeart()) {
-                        heart++;
-                        ImageEffectUtil.showHeartAddedImage(root, sceneWidth, sceneHeight);
-                    }
-
-                    // Update the collision logic based on hitCode using getters
-                    if (hitCode == Block.getHitRight()) {
-                        collideToRightBlock = true;
-                    } else if (hitCode == Block.getHitBottom()) {
-                        collideToBottomBlock = true;
-                    } else if (hitCode == Block.getHitLeft()) {
-                        collideToLeftBlock = true;
-                    } else if (hitCode == Block.getHitTop()) {
-                        collideToTopBlock = true;
-                    }
-                }
+    /**
+     * Plays the effects for losing a heart and, unless it was the last one, saves the loss.
+     */
+    @Override
+    public void onHeartLost() {
+        if (!state.gameOver) { // A finished game is never saved, so a slot can always be played on
+            if (journal != null) {
+                journal.recordHeart(state.heart);
             }
+            autosave.trigger(AutosaveScheduler.HEART_LOST);
         }
-
-
+        SoundEffectUtil.playMinusHeartSoundEffect();
+        renderCommands.add(RenderCommand.of(RenderCommand.SHAKE_STAGE, 0));
+        renderCommands.add(RenderCommand.of(RenderCommand.IMAGE_EFFECT, RenderCommand.EFFECT_HEART_LOST));
     }
 
     /**
-     * Handles rendering of the game, if necessary.
+     * Plays the effects for gaining a heart.
      */
     @Override
-    public void onRender() {
-
+    public void onHeartGained() {
+        if (journal != null) {
+            journal.recordHeart(state.heart);
+        }
+        renderCommands.add(RenderCommand.of(RenderCommand.IMAGE_EFFECT, RenderCommand.EFFECT_HEART_GAINED));
     }
 
     /**
-     * Performs initial setup for the game.
+     * Plays the effects for the start of gold status. The gold look itself follows the snapshot.
      */
     @Override
-    public void onInit() {
+    public void onGoldStatusStarted() {
+        System.out.println("You are Invincible for 12 seconds!");
+        if (journal != null) {
+            journal.recordGold(true, state.goldTime);
+        }
 
+        renderCommands.add(RenderCommand.of(RenderCommand.IMAGE_EFFECT, RenderCommand.EFFECT_GOLDEN_BALL));
     }
 
     /**
-     * Stops the game, typically called when the application is closing.
+     * Records the end of gold status. The normal look itself follows the snapshot.
      */
     @Override
-    public void stop() {
-        if (backgroundMediaPlayer != null) {
-            backgroundMediaPlayer.stop();
+    public void onGoldStatusEnded() {
+        if (journal != null) {
+            journal.recordGold(false, state.goldTime);
         }
     }
 
     /**
-     * Updates the physics aspects of the game, such as ball movement and collision detection.
+     * Moves on to the next level once the board has been cleared.
      */
     @Override
-    public void onPhysicsUpdate() {
-        checkDestroyedCount();
-        setPhysicsToBall();
-
-
-        if (time - goldTime > 5000) {
-            ball.setFill(new ImagePattern(new Image("ball.png")));
-            root.getStyleClass().remove("goldRoot");
-            isGoldStatus = false;
-        }
-
-        for (Bonus choco : chocos) {
-            if (choco.y > sceneHeight || choco.taken) {
-                continue;
-            }
-            if (choco.y >= yBreak && choco.y <= yBreak + breakHeight && choco.x >= xBreak && choco.x <= xBreak + breakWidth) {
-                System.out.println("You Got it and +3 score for you");
-                choco.taken = true;
-                choco.choco.setVisible(false);
-                score += 3;
-
-                ImageEffectUtil.showBonusImage(root, sceneWidth, sceneHeight);
-                SoundEffectUtil.playBonusSoundEffect();
-
-                new Score().show(choco.x, choco.y, 3, this);
-            }
-            choco.y += ((time - choco.timeCreated) / 1000.000) + 1.000;
-        }
-
+    public void onLevelComplete() {
+        nextLevel();
     }
 
     /**
-     * Updates the in-game timer.
-     * @param time The current time value.
+     * Shows the game over screen and pauses the engine.
      */
     @Override
-    public void onTime(long time) {
-        this.time = time;
+    public void onGameOver() {
+        renderCommands.add(RenderCommand.of(RenderCommand.CANCEL_EFFECTS, 0)); // Queued after any effect still pending
+        renderCommands.add(RenderCommand.of(RenderCommand.GAME_OVER, 0));
+        autosave.cancelPending(); // The slot keeps the last save of the game in progress
+        if (journal != null) {
+            journal.close(); // Started again from a fresh snapshot if the game is restarted
+        }
+        engine.pause(); // Kept alive so a restart can reuse it
+        saveRecording();
     }
 }
@@ -0,0 +1,57 @@
+package brickGame.Model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds which paddle keys are currently pressed, as a small bit set.
+ * Key events update it from the JavaFX thread; the simulation samples it once per physics step.
+ * A key that is pressed and released again between two samples still counts as pressed for one sample,
+ * so quick taps are never lost.
+ */
+public class PaddleInput {
+
+    // Key bits
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+
+    private final AtomicInteger held = new AtomicInteger(); // Keys down right now
+    private final AtomicInteger pressedSinceSample = new AtomicInteger(); // Keys pressed since the last sample
+
+    /**
+     * Marks a key as pressed. Repeated presses from keyboard auto-repeat have no further effect.
+     *
+     * @param key The key bit, LEFT or RIGHT.
+     */
+    public void press(int key) {
+        held.getAndUpdate(keys -> keys | key);
+        pressedSinceSample.getAndUpdate(keys -> keys | key);
+    }
+
+    /**
+     * Marks a key as released.
+     *
+     * @param key The key bit, LEFT or RIGHT.
+     */
+    public void release(int key) {
+        held.getAndUpdate(keys -> keys & ~key);
+    }
+
+    /**
+     * Replaces the key state, e.g. when replaying a recording.
+     *
+     * @param keys The key bits that are down.
+     */
+    public void set(int keys) {
+        held.set(keys);
+        pressedSinceSample.set(0);
+    }
+
+    /**
+     * Reads the keys to apply for one step: those down now plus those tapped since the previous sample.
+     *
+     * @return The key bits.
+     */
+    public int sample() {
+        return held.get() | pressedSinceSample.getAndSet(0);
+    }
+}
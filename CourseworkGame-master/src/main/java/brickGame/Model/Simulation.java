@@ -0,0 +1,817 @@
+package brickGame.Model;
+
+import brickGame.Model.input.InputEventRing;
+import brickGame.Model.input.LatencyHistogram;
+import brickGame.Model.level.LevelGenerator;
+import brickGame.Model.replay.InputRecorder;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless implementation of the game rules.
+ * A simulation owns a {@link GameState} and advances it in discrete steps driven only by input
+ * (paddle keys) and time, without touching JavaFX. Anything a view needs to react to is reported
+ * through a {@link SimulationListener}. This lets the game run on machines without a display,
+ * and far faster than real time.
+ * All randomness comes from a seeded generator and input submitted from other threads is applied at
+ * step boundaries, so a session can be recorded with an {@link InputRecorder} and replayed exactly.
+ */
+public class Simulation {
+
+    // Rate of the fixed physics step used by step()
+    public static final int PHYSICS_HZ = 120;
+    public static final long STEP_NANOS = 1_000_000_000L / PHYSICS_HZ;
+    // Paddle handling, in pixels per physics step
+    private static final double PADDLE_MAX_SPEED = 4.0;
+    private static final double PADDLE_ACCELERATION = 0.5;
+    private static final double PADDLE_DECELERATION = 1.0;
+
+    private static final long GOLD_DURATION = 5000; // How long gold status lasts, in in-game milliseconds
+    private static final int MAX_SWEEP_HITS = 4; // Maximum number of impacts resolved within one physics step
+
+    private final GameState state;
+    private SimulationListener listener = new SimulationListener() {
+    };
+    private final BlockGrid blockGrid = new BlockGrid(); // Spatial index used for block collision
+    private final SweptCollision.Hit sweepHit = new SweptCollision.Hit(); // Reused sweep result
+    private final long seed; // Seed of the random number generator
+    private final Random random; // Source of all randomness in the rules, seeded for reproducible runs
+    private final LevelGenerator levelGenerator; // Builds every board from the seed, possibly ahead of time
+    private boolean legacyBoards = false; // Draw boards from random instead, as recordings before version 3 did
+    private int game = 0; // Number of the current game, counting restarts
+    private BlockStore boardLayout; // Unmodified copy of the current board handed to views, or null until asked for
+    private boolean continuousCollision = true; // Sweep the ball along its motion instead of testing overlap
+    private long levelTicks = 0; // Number of physics steps taken since the level started
+    private long totalTicks = 0; // Number of physics steps taken since the simulation was created
+    private InputRecorder recorder; // Receives every input applied, if recording
+    private final PaddleInput paddleInput = new PaddleInput(); // Paddle keys, sampled once per step
+    private int appliedKeys = 0; // Paddle keys applied at the last step
+    private final InputEventRing inputEvents = new InputEventRing(); // Timestamped key events from the JavaFX thread
+    private final InputEventRing.Consumer applyInputEvent = this::applyInputEvent; // Allocated once, not per drain
+    private long drainStartedAt; // When the current step started draining input events
+
+    // Input latency instrumentation
+    private final LatencyHistogram eventToApply = new LatencyHistogram("Input event to apply");
+    private final LatencyHistogram applyToRender = new LatencyHistogram("Input apply to render");
+    private final AtomicLong unrenderedInputAt = new AtomicLong(); // Oldest applied input not yet rendered, 0 if none
+    private final SnapshotBuffer snapshots = new SnapshotBuffer(); // Completed steps, handed to the renderer
+
+    /**
+     * Creates a simulation operating on the given state, with an unpredictable random seed.
+     *
+     * @param state The state to advance.
+     */
+    public Simulation(GameState state) {
+        this(state, new Random().nextLong());
+    }
+
+    /**
+     * Creates a simulation operating on the given state.
+     * Two simulations created with the same seed and fed the same input produce the same game.
+     *
+     * @param state The state to advance.
+     * @param seed  The seed for the random number generator used by the rules.
+     */
+    public Simulation(GameState state, long seed) {
+        this.state = state;
+        this.seed = seed;
+        this.random = new Random(seed);
+        this.levelGenerator = new LevelGenerator(seed);
+    }
+
+    /**
+     * Gets the seed of the random number generator used by the rules.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the generator that builds the board of every level, e.g. to turn on prefetching.
+     *
+     * @return The level generator.
+     */
+    public LevelGenerator getLevelGenerator() {
+        return levelGenerator;
+    }
+
+    /**
+     * Builds boards from the rules' random number generator, in step with the rest of the game,
+     * as the simulation did before boards had seeds of their own. Used to replay older recordings.
+     */
+    public void useLegacyBoards() {
+        legacyBoards = true;
+    }
+
+    /**
+     * Sets the recorder that captures the input applied to this simulation, or null to stop recording.
+     *
+     * @param recorder The recorder to use.
+     */
+    public void setRecorder(InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Gets the state advanced by this simulation.
+     *
+     * @return The game state.
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * Sets the listener notified about game events.
+     *
+     * @param listener The listener to notify.
+     */
+    public void setListener(SimulationListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Chooses between swept (continuous) and overlap-based collision for the ball.
+     *
+     * @param continuousCollision True to sweep the ball along its motion, false to test overlap after moving.
+     */
+    public void setContinuousCollision(boolean continuousCollision) {
+        this.continuousCollision = continuousCollision;
+    }
+
+    /**
+     * Gets the number of physics steps taken since the simulation was created.
+     * Recorded input is keyed by this count.
+     *
+     * @return The step count.
+     */
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    /**
+     * Resets the per-level state and starts the next level, in one call.
+     * Used by headless runs to move on once the current level is complete.
+     */
+    public void advanceLevel() {
+        resetForNextLevel();
+        startNextLevel();
+    }
+
+    /**
+     * Advances to the next level and builds its board.
+     * If the last level has already been played, the game is marked as won instead.
+     */
+    public void startNextLevel() {
+        state.level++;
+        if (state.level > GameState.LAST_LEVEL) {
+            state.won = true;
+            return;
+        }
+
+        initBall();
+        BlockStore board = initBoard();
+        rebuildIndex();
+        boardLayout = board; // Null for legacy boards, which are copied on demand instead
+    }
+
+    /**
+     * Places the ball at its starting position in the middle of the scene.
+     */
+    private void initBall() {
+        state.xBall = GameState.SCENE_WIDTH / 2.0;
+        state.yBall = GameState.SCENE_HEIGHT / 2.0;
+    }
+
+    /**
+     * Initializes the game board by creating and placing blocks.
+     * The number and types of blocks depend on the current game level. The board comes from the level generator,
+     * prefetched while the previous level was played if prefetching is on, and the next board is queued behind it.
+     *
+     * @return The generated board the state's blocks were copied from, or null for legacy boards.
+     */
+    private BlockStore initBoard() {
+        if (legacyBoards) {
+            state.isExistHeartBlock = LevelGenerator.fill(state.blocks, state.level, random);
+            return null;
+        }
+        BlockStore board = levelGenerator.take(game, state.level);
+        state.blocks.copyFrom(board);
+        state.isExistHeartBlock = state.blocks.containsType(BlockStore.BLOCK_HEART);
+        levelGenerator.prefetch(game, state.level + 1);
+        return board;
+    }
+
+    /**
+     * Rebuilds the collision index from the current block store.
+     * Must be called whenever the board is replaced from outside, e.g. after loading a save.
+     */
+    public void rebuildIndex() {
+        blockGrid.rebuild(state.blocks);
+        state.boardVersion++;
+        boardLayout = null;
+    }
+
+    /**
+     * Gets the layout of the current board as a block store that is never modified, so views of it can be built
+     * on another thread while the simulation keeps stepping. Generated boards are shared as they are; other boards,
+     * such as loaded saves, are copied on the first call. Must be called between steps, on the thread that steps
+     * the simulation.
+     *
+     * @return The board's layout; which of its blocks are live is not kept up to date.
+     */
+    public BlockStore getBoardLayout() {
+        if (boardLayout == null) {
+            boardLayout = new BlockStore();
+            boardLayout.copyFrom(state.blocks);
+        }
+        return boardLayout;
+    }
+
+    /**
+     * Resets the per-level state in preparation for the next level.
+     */
+    public void resetForNextLevel() {
+        record(InputRecorder.NEXT_LEVEL, 0);
+        resetLevelState();
+    }
+
+    /**
+     * Resets all state for a brand new game.
+     */
+    public void resetGame() {
+        record(InputRecorder.RESTART, 0);
+        game++;
+        state.level = 0;
+        state.heart = GameState.START_HEARTS;
+        state.score = 0;
+        state.gameOver = false;
+        state.won = false;
+        resetLevelState();
+    }
+
+    /**
+     * Resets everything that does not carry over from one level to the next.
+     */
+    private void resetLevelState() {
+        state.vX = 1.000;
+        state.paddleVelocity = 0;
+        resetCollideFlags();
+        state.goDownBall = true;
+
+        state.isGoldStatus = false;
+        state.isExistHeartBlock = false;
+        state.levelComplete = false;
+
+        state.hitTime = 0;
+        state.time = 0;
+        state.goldTime = 0;
+        levelTicks = 0;
+
+        state.blocks.clear();
+        state.bonuses.clear();
+        state.destroyedBlockCount = 0;
+        rebuildIndex();
+    }
+
+    /**
+     * Sets the current in-game time, for callers that derive time from their own clock.
+     *
+     * @param time The in-game time in milliseconds.
+     */
+    public void setTime(long time) {
+        state.time = time;
+    }
+
+    /**
+     * Advances the game by one fixed step: time moves forward by 1/PHYSICS_HZ seconds,
+     * then the physics and update stages run in that order.
+     */
+    public void step() {
+        state.time = (levelTicks + 1) * STEP_NANOS / 1_000_000L;
+        physicsStep();
+        updateStep();
+    }
+
+    /**
+     * Gets the paddle keys the simulation samples every step.
+     * Safe to update from any thread; this is how live keyboard input reaches the simulation.
+     *
+     * @return The paddle key state.
+     */
+    public PaddleInput getPaddleInput() {
+        return paddleInput;
+    }
+
+    /**
+     * Publishes a snapshot of the state as it stands after the current step, replacing any the reader has not taken yet.
+     * Must be called from the thread stepping the simulation, or while nothing is stepping it.
+     */
+    public void publishSnapshot() {
+        snapshots.publish(state, totalTicks);
+    }
+
+    /**
+     * Gets the buffer through which snapshots reach the thread drawing the game.
+     *
+     * @return The snapshot buffer.
+     */
+    public SnapshotBuffer getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * Gets the ring that carries timestamped key events from the JavaFX thread to this simulation.
+     * Only one thread may offer events to it.
+     *
+     * @return The input event ring.
+     */
+    public InputEventRing getInputEvents() {
+        return inputEvents;
+    }
+
+    /**
+     * Tells the simulation a frame has been rendered, measuring how long the oldest input
+     * applied since the previous frame took to reach the screen.
+     *
+     * @param renderedAt System.nanoTime() when the frame was rendered.
+     */
+    public void onFrameRendered(long renderedAt) {
+        long appliedAt = unrenderedInputAt.getAndSet(0);
+        if (appliedAt != 0) {
+            applyToRender.record(renderedAt - appliedAt);
+        }
+    }
+
+    /**
+     * Builds a summary of the input latency distributions measured so far.
+     *
+     * @return The summary.
+     */
+    public String inputLatencyReport() {
+        return eventToApply.report() + System.lineSeparator() + applyToRender.report()
+                + System.lineSeparator() + "Input events dropped: " + inputEvents.getDropped();
+    }
+
+    /**
+     * Applies one key event drained from the input ring to the paddle keys.
+     *
+     * @param key        The key bit.
+     * @param pressed    True if the key was pressed, false if released.
+     * @param receivedAt System.nanoTime() when the event was received.
+     */
+    private void applyInputEvent(int key, boolean pressed, long receivedAt) {
+        if (pressed) {
+            paddleInput.press(key);
+        } else {
+            paddleInput.release(key);
+        }
+        eventToApply.record(drainStartedAt - receivedAt);
+    }
+
+    /**
+     * Throws away the key events not applied yet and replaces the held paddle keys.
+     * Used when the game resumes, so events queued while nothing stepped the simulation are not applied late.
+     * Must be called between steps, on the thread that steps the simulation.
+     *
+     * @param keys The paddle keys actually down now.
+     */
+    public void resetPaddleInput(int keys) {
+        inputEvents.clear();
+        paddleInput.set(keys);
+    }
+
+    /**
+     * Drains the key events received since the previous step, samples the paddle keys,
+     * recording any change, and moves the paddle accordingly.
+     */
+    private void applyPendingInput() {
+        drainStartedAt = System.nanoTime();
+        if (inputEvents.drain(applyInputEvent) > 0) {
+            unrenderedInputAt.compareAndSet(0, drainStartedAt);
+        }
+
+        int keys = paddleInput.sample();
+        if (keys != appliedKeys) {
+            record(InputRecorder.KEY_STATE, keys);
+            appliedKeys = keys;
+        }
+        steerPaddle(keys);
+    }
+
+    /**
+     * Accelerates the paddle towards the held direction, or brakes it when no direction is held,
+     * and moves it by its velocity, stopping it at the walls.
+     *
+     * @param keys The paddle keys held during this step.
+     */
+    private void steerPaddle(int keys) {
+        int direction = ((keys & PaddleInput.RIGHT) != 0 ? 1 : 0) - ((keys & PaddleInput.LEFT) != 0 ? 1 : 0);
+        double velocity = state.paddleVelocity;
+        if (direction != 0) {
+            if (velocity * direction < 0) {
+                velocity += direction * PADDLE_DECELERATION; // Brake harder when reversing
+            }
+            velocity += direction * PADDLE_ACCELERATION;
+            velocity = Math.max(-PADDLE_MAX_SPEED, Math.min(PADDLE_MAX_SPEED, velocity));
+        } else if (velocity > 0) {
+            velocity = Math.max(0, velocity - PADDLE_DECELERATION);
+        } else if (velocity < 0) {
+            velocity = Math.min(0, velocity + PADDLE_DECELERATION);
+        }
+        if (velocity == 0) {
+            state.paddleVelocity = 0;
+            return;
+        }
+
+        double x = state.xBreak + velocity;
+        double maxX = GameState.SCENE_WIDTH - GameState.BREAK_WIDTH;
+        if (x <= 0 || x >= maxX) {
+            x = Math.max(0, Math.min(maxX, x));
+            velocity = 0;
+        }
+        state.xBreak = x;
+        state.centerBreakX = state.xBreak + GameState.HALF_BREAK_WIDTH;
+        state.paddleVelocity = velocity;
+    }
+
+    /**
+     * Passes an input event to the recorder, if one is attached.
+     *
+     * @param type  The type of the event.
+     * @param value The value of the event.
+     */
+    private void record(byte type, int value) {
+        if (recorder != null) {
+            recorder.record(totalTicks, type, value);
+        }
+    }
+
+    /**
+     * Moves the paddle horizontally, keeping it within the bounds of the scene.
+     * Live play steers the paddle through the sampled keys instead; this is kept for replaying recordings made
+     * before key-state input and for headless runs. Must be called from the thread stepping the simulation.
+     *
+     * @param delta The amount to move the paddle. Positive values move it to the right, negative to the left.
+     */
+    public void movePaddle(int delta) {
+        if ((delta > 0 && state.xBreak + GameState.BREAK_WIDTH < GameState.SCENE_WIDTH) || (delta < 0 && state.xBreak > 0)) {
+            state.xBreak += delta;
+            state.centerBreakX = state.xBreak + GameState.HALF_BREAK_WIDTH;
+        }
+    }
+
+    /**
+     * Runs the physics stage: queued input, level completion, ball movement and collisions,
+     * gold status expiry and falling bonuses.
+     */
+    public void physicsStep() {
+        applyPendingInput();
+        totalTicks++;
+        levelTicks++;
+
+        if (state.gameOver || state.won) {
+            return;
+        }
+
+        checkDestroyedCount();
+        setPhysicsToBall();
+
+        if (state.isGoldStatus && state.time - state.goldTime > GOLD_DURATION) {
+            state.isGoldStatus = false;
+            listener.onGoldStatusEnded();
+        }
+
+        for (int i = 0; i < state.bonuses.size(); i++) {
+            BonusDrop choco = state.bonuses.get(i);
+            if (choco.y > GameState.SCENE_HEIGHT || choco.taken) {
+                continue;
+            }
+            if (choco.y >= state.yBreak && choco.y <= state.yBreak + GameState.BREAK_HEIGHT
+                    && choco.x >= state.xBreak && choco.x <= state.xBreak + GameState.BREAK_WIDTH) {
+                choco.taken = true;
+                state.score += 3;
+                listener.onBonusTaken(i);
+            }
+            choco.y += ((state.time - choco.timeCreated) / 1000.000) + 1.000;
+        }
+    }
+
+    /**
+     * Runs the update stage. With overlap-based collision this is where the ball hits blocks;
+     * with continuous collision blocks are already hit while the ball is swept in the physics stage.
+     */
+    public void updateStep() {
+        if (state.gameOver || state.won) {
+            return;
+        }
+
+        if (!continuousCollision) {
+            checkBlockCollisions();
+        }
+    }
+
+    /**
+     * Reports level completion once all blocks have been destroyed.
+     */
+    private void checkDestroyedCount() {
+        if (state.blocks.liveCount() == 0 && !state.levelComplete) {
+            state.levelComplete = true;
+            listener.onLevelComplete();
+        }
+    }
+
+    /**
+     * Resets all collision flags to their default state.
+     * This method is used to clear any existing collision states of the ball with various objects,
+     * ensuring that collision detection can occur afresh in each frame of the game.
+     */
+    private void resetCollideFlags() {
+        state.collideToBreak = false;
+        state.collideToBreakAndMoveToRight = false;
+        state.collideToRightWall = false;
+        state.collideToLeftWall = false;
+
+        state.collideToRightBlock = false;
+        state.collideToBottomBlock = false;
+        state.collideToLeftBlock = false;
+        state.collideToTopBlock = false;
+    }
+
+    /**
+     * Updates the physics of the ball, including its movement and collision handling.
+     * This method determines the ball's behavior based on its position, collisions with the paddle,
+     * walls, and blocks, and adjusts its direction and speed accordingly.
+     */
+    private void setPhysicsToBall() {
+        if (continuousCollision) {
+            moveBallContinuous();
+        } else {
+            moveBall();
+        }
+
+        // Collision handling with the top boundary of the scene
+        if (state.yBall <= 0) {
+            resetCollideFlags();
+            state.goDownBall = true;
+            return;
+        }
+
+        // Collision handling with the bottom boundary of the scene
+        if (state.yBall >= GameState.SCENE_HEIGHT) {
+            state.goDownBall = false;
+            if (!state.isGoldStatus) {
+                // The ball missed the paddle and is not in gold status
+                state.heart--;
+
+                // Game over condition check, decided first so listeners know whether the heart was the last one
+                if (state.heart <= 0) {
+                    state.gameOver = true;
+                }
+                listener.onHeartLost();
+                if (state.gameOver) {
+                    listener.onGameOver();
+                    return;
+                }
+            }
+        }
+
+        // Collision handling with the paddle (the continuous sweep already handled it)
+        if (!continuousCollision && state.yBall >= state.yBreak - GameState.BALL_RADIUS) {
+            if (state.xBall >= state.xBreak && state.xBall <= state.xBreak + GameState.BREAK_WIDTH) {
+                bounceOffPaddle();
+            }
+        }
+
+        // Collision handling with the right and left walls
+        if (state.xBall >= GameState.SCENE_WIDTH) {
+            resetCollideFlags();
+            state.collideToRightWall = true;
+        }
+
+        if (state.xBall <= 0) {
+            resetCollideFlags();
+            state.collideToLeftWall = true;
+        }
+
+        // Updating ball direction after collisions
+        if (state.collideToBreak) {
+            state.goRightBall = state.collideToBreakAndMoveToRight;
+        }
+
+        //Wall Collide
+
+        if (state.collideToRightWall) {
+            state.goRightBall = false;
+        }
+
+        if (state.collideToLeftWall) {
+            state.goRightBall = true;
+        }
+
+        //Block Collide
+
+        if (state.collideToRightBlock) {
+            state.goRightBall = true;
+        }
+
+        if (state.collideToLeftBlock) {
+            state.goRightBall = true;
+        }
+
+        if (state.collideToTopBlock) {
+            state.goDownBall = false;
+        }
+
+        if (state.collideToBottomBlock) {
+            state.goDownBall = true;
+        }
+    }
+
+    /**
+     * Moves the ball by one step of its current velocity without any collision handling.
+     * Collisions are then detected by testing overlap at the new position.
+     */
+    private void moveBall() {
+        // Ball movement: vertical direction
+        if (state.goDownBall) {
+            state.yBall += state.vY;
+        } else {
+            state.yBall -= state.vY;
+        }
+
+        // Ball movement: horizontal direction
+        if (state.goRightBall) {
+            state.xBall += state.vX;
+        } else {
+            state.xBall -= state.vX;
+        }
+    }
+
+    /**
+     * Moves the ball by one step of its current velocity, sweeping it against the blocks and the paddle.
+     * The earliest impact along the motion is resolved first: the ball is moved to the point of contact,
+     * reflected, and the rest of the motion is swept again, up to MAX_SWEEP_HITS impacts per step.
+     * This keeps a fast ball from tunneling through blocks or the paddle.
+     */
+    private void moveBallContinuous() {
+        final double radius = GameState.BALL_RADIUS;
+        double dx = state.goRightBall ? state.vX : -state.vX;
+        double dy = state.goDownBall ? state.vY : -state.vY;
+        double remaining = 1.0;
+
+        for (int impact = 0; impact < MAX_SWEEP_HITS && remaining > 0; impact++) {
+            double stepX = dx * remaining;
+            double stepY = dy * remaining;
+            double xBall = state.xBall;
+            double yBall = state.yBall;
+
+            // Find the earliest block hit among the blocks near the swept path
+            int hitIndex = -1;
+            int hitSide = BlockStore.NO_HIT;
+            double hitTime = Double.POSITIVE_INFINITY;
+            int candidateCount = blockGrid.query(
+                    Math.min(xBall, xBall + stepX) - radius, Math.min(yBall, yBall + stepY) - radius,
+                    Math.max(xBall, xBall + stepX) + radius, Math.max(yBall, yBall + stepY) + radius);
+            int[] candidates = blockGrid.getCandidates();
+            for (int k = 0; k < candidateCount; k++) {
+                int index = candidates[k];
+                double left = state.blocks.getX(index);
+                double top = state.blocks.getY(index);
+                if (SweptCollision.sweep(xBall, yBall, stepX, stepY, radius,
+                        left, top, left + BlockStore.WIDTH, top + BlockStore.HEIGHT, sweepHit)
+                        && sweepHit.time < hitTime) {
+                    hitIndex = index;
+                    hitSide = sweepHit.side;
+                    hitTime = sweepHit.time;
+                }
+            }
+
+            // The paddle can only be hit on its top face while the ball is falling
+            boolean hitPaddle = false;
+            if (stepY > 0 && SweptCollision.sweep(xBall, yBall, stepX, stepY, radius,
+                    state.xBreak, state.yBreak, state.xBreak + GameState.BREAK_WIDTH, state.yBreak + GameState.BREAK_HEIGHT, sweepHit)
+                    && sweepHit.side == BlockStore.HIT_TOP && sweepHit.time < hitTime) {
+                hitPaddle = true;
+                hitTime = sweepHit.time;
+            }
+
+            if (hitIndex < 0 && !hitPaddle) {
+                state.xBall += stepX;
+                state.yBall += stepY;
+                return;
+            }
+
+            // Advance to the point of contact and spend the rest of the step after the bounce
+            state.xBall += stepX * hitTime;
+            state.yBall += stepY * hitTime;
+            remaining *= 1 - hitTime;
+
+            if (hitPaddle) {
+                bounceOffPaddle();
+                state.goRightBall = state.collideToBreakAndMoveToRight;
+            } else {
+                destroyBlock(hitIndex);
+                resetCollideFlags();
+                if (hitSide == BlockStore.HIT_LEFT) {
+                    state.goRightBall = false;
+                } else if (hitSide == BlockStore.HIT_RIGHT) {
+                    state.goRightBall = true;
+                } else if (hitSide == BlockStore.HIT_TOP) {
+                    state.goDownBall = false;
+                } else {
+                    state.goDownBall = true;
+                }
+            }
+            dx = state.goRightBall ? state.vX : -state.vX;
+            dy = state.goDownBall ? state.vY : -state.vY;
+        }
+    }
+
+    /**
+     * Bounces the ball off the paddle.
+     * The ball's horizontal speed and direction depend on how far from the paddle's center it landed.
+     */
+    private void bounceOffPaddle() {
+        state.hitTime = state.time;
+        resetCollideFlags();
+        state.collideToBreak = true;
+        state.goDownBall = false;
+
+        // Code to adjust the ball's horizontal velocity based on collision point
+        double relation = (state.xBall - state.centerBreakX) / (GameState.BREAK_WIDTH / 2.0);
+
+        // Adjusting ball's horizontal speed based on collision point with paddle
+        if (Math.abs(relation) <= 0.3) {
+            state.vX = Math.abs(relation);
+        } else if (Math.abs(relation) > 0.3 && Math.abs(relation) <= 0.7) {
+            state.vX = (Math.abs(relation) * 1.5) + (state.level / 3.500);
+        } else {
+            state.vX = (Math.abs(relation) * 2) + (state.level / 3.500);
+        }
+
+        state.collideToBreakAndMoveToRight = state.xBall - state.centerBreakX > 0;
+    }
+
+    /**
+     * Tests the ball against the blocks around it at its current position and handles any hits.
+     */
+    private void checkBlockCollisions() {
+        // Only the blocks in the grid cells around the ball can be hit
+        int candidateCount = blockGrid.query(state.xBall, state.yBall, GameState.BALL_RADIUS);
+        int[] candidates = blockGrid.getCandidates();
+        for (int k = 0; k < candidateCount; k++) {
+            int index = candidates[k];
+            int hitCode = state.blocks.checkHit(index, state.xBall, state.yBall, GameState.BALL_RADIUS);
+            if (hitCode != BlockStore.NO_HIT) {
+                destroyBlock(index);
+                resetCollideFlags();
+
+                // Update the collision logic based on hitCode
+                if (hitCode == BlockStore.HIT_RIGHT) {
+                    state.collideToRightBlock = true;
+                } else if (hitCode == BlockStore.HIT_BOTTOM) {
+                    state.collideToBottomBlock = true;
+                } else if (hitCode == BlockStore.HIT_LEFT) {
+                    state.collideToLeftBlock = true;
+                } else if (hitCode == BlockStore.HIT_TOP) {
+                    state.collideToTopBlock = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Destroys a block hit by the ball and applies its effects: score, bonuses, gold status and hearts.
+     *
+     * @param index The index of the block in the block store.
+     */
+    private void destroyBlock(int index) {
+        state.score += 1;
+        state.blocks.destroy(index);
+        blockGrid.remove(state.blocks, index);
+        state.destroyedBlockCount++;
+        listener.onBlockDestroyed(index);
+
+        int type = state.blocks.getType(index);
+        if (type == BlockStore.BLOCK_CHOCO) {
+            BonusDrop choco = new BonusDrop(state.blocks.getRow(index), state.blocks.getColumn(index), state.time);
+            choco.variant = random.nextInt(20) % 2;
+            state.bonuses.add(choco);
+            listener.onBonusSpawned(state.bonuses.size() - 1);
+        }
+
+        if (type == BlockStore.BLOCK_STAR) {
+            state.goldTime = state.time;
+            state.isGoldStatus = true;
+            listener.onGoldStatusStarted();
+        }
+
+        if (type == BlockStore.BLOCK_HEART) {
+            state.heart++;
+            listener.onHeartGained();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package brickGame.Model;
+
+/**
+ * Receives notifications about game events raised by a {@link Simulation}.
+ * Views use these to play sounds, show effects and update nodes; headless runs can ignore them.
+ * All methods are called on the thread stepping the simulation and default to doing nothing.
+ */
+public interface SimulationListener {
+
+    /**
+     * Called after a block has been destroyed by the ball.
+     *
+     * @param index The index of the block in the block store.
+     */
+    default void onBlockDestroyed(int index) {
+    }
+
+    /**
+     * Called when a destroyed choco block releases a bonus.
+     *
+     * @param bonusIndex The index of the bonus in the state's bonus list.
+     */
+    default void onBonusSpawned(int bonusIndex) {
+    }
+
+    /**
+     * Called when the paddle catches a falling bonus.
+     *
+     * @param bonusIndex The index of the bonus in the state's bonus list.
+     */
+    default void onBonusTaken(int bonusIndex) {
+    }
+
+    /**
+     * Called when the ball reaches the bottom of the scene outside gold status.
+     */
+    default void onHeartLost() {
+    }
+
+    /**
+     * Called when a heart block is destroyed.
+     */
+    default void onHeartGained() {
+    }
+
+    /**
+     * Called when a star block is destroyed and the ball turns gold.
+     */
+    default void onGoldStatusStarted() {
+    }
+
+    /**
+     * Called when gold status runs out.
+     */
+    default void onGoldStatusEnded() {
+    }
+
+    /**
+     * Called once when the last block of the level has been destroyed.
+     */
+    default void onLevelComplete() {
+    }
+
+    /**
+     * Called once when the last heart has been lost.
+     */
+    default void onGameOver() {
+    }
+}
@@ -0,0 +1,47 @@
+package brickGame.Model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple buffer handing {@link FrameSnapshot}s from the thread stepping the simulation to the thread drawing it.
+ * The writer fills its back buffer and swaps it into the middle slot; the reader swaps the middle slot with its
+ * front buffer whenever a newer snapshot is waiting. The middle slot is a single atomic index, so publishing is a
+ * release and acquiring is an acquire: a reader always sees a complete step and never waits for the writer.
+ * The three snapshots are allocated once, so publishing allocates nothing.
+ * At any time there must be only one writer and one reader thread.
+ */
+public class SnapshotBuffer {
+
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4; // Set in the middle slot when it holds a snapshot the reader has not taken
+
+    private final FrameSnapshot[] buffers = {new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot()};
+    private final AtomicInteger middle = new AtomicInteger(1); // Index of the middle buffer, plus the FRESH flag
+    private int back = 0; // Buffer the writer fills next, writer thread only
+    private int front = 2; // Buffer the reader last took, reader thread only
+
+    /**
+     * Takes a snapshot of the state and makes it the latest one. Must only be called from the writer thread.
+     *
+     * @param state The state to snapshot.
+     * @param tick  The number of physics steps taken so far.
+     */
+    public void publish(GameState state, long tick) {
+        buffers[back].copyFrom(state, tick);
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Takes the latest snapshot if one was published since the previous call. Must only be called from the reader thread.
+     * The snapshot stays valid, and unchanged, until the next call.
+     *
+     * @return The latest snapshot, or null if nothing new was published.
+     */
+    public FrameSnapshot acquireLatest() {
+        if ((middle.get() & FRESH) == 0) {
+            return null;
+        }
+        front = middle.getAndSet(front) & INDEX_MASK;
+        return buffers[front];
+    }
+}
@@ -0,0 +1,86 @@
+package brickGame.Model;
+
+/**
+ * Continuous collision detection between a moving circle and axis-aligned boxes.
+ * The circle is swept along its motion segment against the box grown by the circle's radius
+ * (its corners are treated as square, which is slightly conservative), so a fast ball cannot
+ * tunnel through a block or the paddle between two physics steps.
+ */
+public class SweptCollision {
+
+    /**
+     * Result of a sweep test. Instances are meant to be reused between calls.
+     */
+    public static class Hit {
+        public double time; // Fraction of the motion segment at which the circle first touches the box, in [0, 1]
+        public int side; // Side of the box that was hit, one of the BlockStore.HIT_* constants
+    }
+
+    /**
+     * Sweeps a circle along a motion segment against a box.
+     * Contacts where the circle starts inside the box, or is already moving away from it, are ignored.
+     *
+     * @param x      The x-coordinate of the circle's center at the start of the motion.
+     * @param y      The y-coordinate of the circle's center at the start of the motion.
+     * @param dx     The horizontal displacement over the motion.
+     * @param dy     The vertical displacement over the motion.
+     * @param radius The radius of the circle.
+     * @param left   The left edge of the box.
+     * @param top    The top edge of the box.
+     * @param right  The right edge of the box.
+     * @param bottom The bottom edge of the box.
+     * @param hit    Receives the time of impact and the side hit when this method returns true.
+     * @return True if the circle touches the box during the motion, false otherwise.
+     */
+    public static boolean sweep(double x, double y, double dx, double dy, double radius,
+                                double left, double top, double right, double bottom, Hit hit) {
+        double minX = left - radius;
+        double maxX = right + radius;
+        double minY = top - radius;
+        double maxY = bottom + radius;
+
+        double enterX;
+        double exitX;
+        if (dx == 0) {
+            if (x <= minX || x >= maxX) {
+                return false;
+            }
+            enterX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (minX - x) / dx;
+            double t2 = (maxX - x) / dx;
+            enterX = Math.min(t1, t2);
+            exitX = Math.max(t1, t2);
+        }
+
+        double enterY;
+        double exitY;
+        if (dy == 0) {
+            if (y <= minY || y >= maxY) {
+                return false;
+            }
+            enterY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (minY - y) / dy;
+            double t2 = (maxY - y) / dy;
+            enterY = Math.min(t1, t2);
+            exitY = Math.max(t1, t2);
+        }
+
+        double enter = Math.max(enterX, enterY);
+        double exit = Math.min(exitX, exitY);
+        if (enter > exit || enter < 0 || enter > 1 || exit <= 0) {
+            return false;
+        }
+
+        hit.time = enter;
+        if (enterX > enterY) {
+            hit.side = dx > 0 ? BlockStore.HIT_LEFT : BlockStore.HIT_RIGHT;
+        } else {
+            hit.side = dy > 0 ? BlockStore.HIT_TOP : BlockStore.HIT_BOTTOM;
+        }
+        return true;
+    }
+}
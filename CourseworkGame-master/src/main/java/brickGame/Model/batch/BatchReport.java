@@ -0,0 +1,104 @@
+package brickGame.Model.batch;
+
+import brickGame.Model.GameState;
+import java.util.List;
+
+/**
+ * Results of a batch of headless games, with aggregate statistics and throughput.
+ */
+public class BatchReport {
+    private final List<GameResult> results; // Results of the individual games
+    private final long elapsedNanos; // Wall time taken by the whole batch
+    private final int parallelism; // Number of worker threads used
+
+    /**
+     * Creates a batch report.
+     *
+     * @param results      Results of the individual games.
+     * @param elapsedNanos Wall time taken by the whole batch, in nanoseconds.
+     * @param parallelism  Number of worker threads used.
+     */
+    public BatchReport(List<GameResult> results, long elapsedNanos, int parallelism) {
+        this.results = results;
+        this.elapsedNanos = elapsedNanos;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the results of the individual games, in seed order.
+     *
+     * @return The game results.
+     */
+    public List<GameResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets the number of games completed per second of wall time.
+     *
+     * @return The overall throughput.
+     */
+    public double gamesPerSecond() {
+        return results.size() / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Gets the number of games completed per second of wall time, divided by the number of worker threads.
+     *
+     * @return The throughput per core.
+     */
+    public double gamesPerSecondPerCore() {
+        return gamesPerSecond() / parallelism;
+    }
+
+    /**
+     * Gets the number of simulation steps taken per second of wall time across all games.
+     *
+     * @return The step throughput.
+     */
+    public double ticksPerSecond() {
+        long ticks = 0;
+        for (GameResult result : results) {
+            ticks += result.ticks;
+        }
+        return ticks / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        int games = results.size();
+        long score = 0;
+        long ticks = 0;
+        long heartsLost = 0;
+        int wins = 0;
+        int timeouts = 0;
+        int maxLevel = 0;
+        int[] levels = new int[GameState.LAST_LEVEL + 1];
+        for (GameResult result : results) {
+            score += result.score;
+            ticks += result.ticks;
+            heartsLost += result.heartsLost;
+            wins += result.won ? 1 : 0;
+            timeouts += result.timedOut ? 1 : 0;
+            maxLevel = Math.max(maxLevel, result.levelReached);
+            levels[Math.min(result.levelReached, GameState.LAST_LEVEL)]++;
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Games: %d on %d threads in %.2f s%n", games, parallelism, elapsedNanos / 1e9));
+        report.append(String.format("Throughput: %.1f games/s, %.1f games/s per core, %.0f ticks/s%n",
+                gamesPerSecond(), gamesPerSecondPerCore(), ticksPerSecond()));
+        if (games > 0) {
+            report.append(String.format("Average: score %.1f, ticks %.0f, hearts lost %.2f%n",
+                    (double) score / games, (double) ticks / games, (double) heartsLost / games));
+        }
+        report.append(String.format("Wins: %d, timed out: %d, highest level: %d%n", wins, timeouts, maxLevel));
+        report.append("Level reached:");
+        for (int level = 1; level < levels.length; level++) {
+            if (levels[level] > 0) {
+                report.append(' ').append(level).append('=').append(levels[level]);
+            }
+        }
+        return report.toString();
+    }
+}
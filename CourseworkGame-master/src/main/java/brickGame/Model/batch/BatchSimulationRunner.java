@@ -0,0 +1,113 @@
+package brickGame.Model.batch;
+
+import brickGame.Model.GameState;
+import brickGame.Model.Simulation;
+import brickGame.Model.SimulationListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.LongFunction;
+
+/**
+ * Runs many independent headless games concurrently on a {@link ForkJoinPool}.
+ * Each game gets its own seed and paddle controller and is played until it is won, lost,
+ * or hits the step limit. The collected results are used to balance the level rules.
+ */
+public class BatchSimulationRunner {
+
+    private final int parallelism; // Number of worker threads
+    private final long maxTicks; // Step limit per game
+    private final LongFunction<PaddleController> controllerFactory; // Creates a controller for a given seed
+
+    /**
+     * Creates a batch runner.
+     *
+     * @param parallelism       Number of worker threads, typically the number of available cores.
+     * @param maxTicks          Maximum number of steps a single game may run.
+     * @param controllerFactory Creates the paddle controller for a game from its seed.
+     */
+    public BatchSimulationRunner(int parallelism, long maxTicks, LongFunction<PaddleController> controllerFactory) {
+        this.parallelism = parallelism;
+        this.maxTicks = maxTicks;
+        this.controllerFactory = controllerFactory;
+    }
+
+    /**
+     * Simulates a batch of games with consecutive seeds.
+     *
+     * @param firstSeed The seed of the first game; the others use the following seeds.
+     * @param games     The number of games to simulate.
+     * @return The results of all games along with throughput figures.
+     */
+    public BatchReport run(long firstSeed, int games) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            List<ForkJoinTask<GameResult>> tasks = new ArrayList<>(games);
+            for (int i = 0; i < games; i++) {
+                final long seed = firstSeed + i;
+                tasks.add(pool.submit(() -> runGame(seed, controllerFactory.apply(seed), maxTicks)));
+            }
+
+            List<GameResult> results = new ArrayList<>(games);
+            for (ForkJoinTask<GameResult> task : tasks) {
+                results.add(task.join());
+            }
+            return new BatchReport(results, System.nanoTime() - start, parallelism);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays one headless game from the first level until it is won, lost, or hits the step limit.
+     *
+     * @param seed       The seed for the game's rules.
+     * @param controller The controller moving the paddle.
+     * @param maxTicks   Maximum number of steps to run.
+     * @return The outcome of the game.
+     */
+    public static GameResult runGame(long seed, PaddleController controller, long maxTicks) {
+        GameState state = new GameState();
+        Simulation simulation = new Simulation(state, seed);
+        final int[] heartsLost = {0};
+        simulation.setListener(new SimulationListener() {
+            @Override
+            public void onHeartLost() {
+                heartsLost[0]++;
+            }
+        });
+        simulation.startNextLevel();
+
+        long ticks = 0;
+        while (!state.gameOver && !state.won && ticks < maxTicks) {
+            simulation.movePaddle(controller.decide(state, ticks));
+            simulation.step();
+            ticks++;
+            if (state.levelComplete) {
+                simulation.advanceLevel();
+            }
+        }
+
+        int levelReached = state.won ? GameState.LAST_LEVEL : state.level;
+        return new GameResult(seed, state.score, levelReached, ticks, heartsLost[0], state.won, ticks >= maxTicks);
+    }
+
+    /**
+     * Command-line entry point.
+     * Arguments (all optional): number of games, number of threads, step limit per game, first seed.
+     *
+     * @param args Command-line arguments.
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long maxTicks = args.length > 2 ? Long.parseLong(args[2]) : 2_000_000L;
+        long firstSeed = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+
+        BatchSimulationRunner runner = new BatchSimulationRunner(threads, maxTicks,
+                seed -> new TrackingPaddleController(seed, 3));
+        System.out.println(runner.run(firstSeed, games));
+    }
+}
@@ -0,0 +1,41 @@
+package brickGame.Model.batch;
+
+/**
+ * Outcome of one headless game run by the {@link BatchSimulationRunner}.
+ */
+public class GameResult {
+    public final long seed; // Seed the game was run with
+    public final int score; // Final score
+    public final int levelReached; // Last level played
+    public final long ticks; // Number of simulation steps taken
+    public final int heartsLost; // Number of hearts lost during the game
+    public final boolean won; // Whether all levels were cleared
+    public final boolean timedOut; // Whether the game was cut off by the step limit
+
+    /**
+     * Creates a game result.
+     *
+     * @param seed         Seed the game was run with.
+     * @param score        Final score.
+     * @param levelReached Last level played.
+     * @param ticks        Number of simulation steps taken.
+     * @param heartsLost   Number of hearts lost during the game.
+     * @param won          Whether all levels were cleared.
+     * @param timedOut     Whether the game was cut off by the step limit.
+     */
+    public GameResult(long seed, int score, int levelReached, long ticks, int heartsLost, boolean won, boolean timedOut) {
+        this.seed = seed;
+        this.score = score;
+        this.levelReached = levelReached;
+        this.ticks = ticks;
+        this.heartsLost = heartsLost;
+        this.won = won;
+        this.timedOut = timedOut;
+    }
+
+    @Override
+    public String toString() {
+        return "seed=" + seed + " score=" + score + " level=" + levelReached + " ticks=" + ticks
+                + " heartsLost=" + heartsLost + (won ? " won" : "") + (timedOut ? " timedOut" : "");
+    }
+}
@@ -0,0 +1,19 @@
+package brickGame.Model.batch;
+
+import brickGame.Model.GameState;
+
+/**
+ * Decides how the paddle moves during a headless game.
+ * Implementations stand in for the player so games can be simulated without any input device.
+ */
+public interface PaddleController {
+
+    /**
+     * Decides the paddle movement for the next step.
+     *
+     * @param state The current game state.
+     * @param tick  The number of steps taken since the game started.
+     * @return The amount to move the paddle this step; positive moves right, negative moves left.
+     */
+    int decide(GameState state, long tick);
+}
@@ -0,0 +1,28 @@
+package brickGame.Model.batch;
+
+import brickGame.Model.GameState;
+
+/**
+ * Controller that replays a fixed script of paddle movements, looping when it reaches the end.
+ */
+public class ScriptedPaddleController implements PaddleController {
+
+    private final int[] script; // Paddle movement for each step of the script
+
+    /**
+     * Creates a scripted controller.
+     *
+     * @param script The paddle movement for each step; must not be empty.
+     */
+    public ScriptedPaddleController(int[] script) {
+        if (script.length == 0) {
+            throw new IllegalArgumentException("Script must contain at least one step");
+        }
+        this.script = script.clone();
+    }
+
+    @Override
+    public int decide(GameState state, long tick) {
+        return script[(int) (tick % script.length)];
+    }
+}
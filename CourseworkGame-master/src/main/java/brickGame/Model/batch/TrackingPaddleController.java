@@ -0,0 +1,33 @@
+package brickGame.Model.batch;
+
+import brickGame.Model.GameState;
+import java.util.Random;
+
+/**
+ * Simple AI that keeps the paddle under the ball.
+ * It aims at a point slightly off the paddle's center (chosen per game from the seed) so the ball
+ * is sent at varying angles, and it can only move a limited distance per step, like a human player.
+ */
+public class TrackingPaddleController implements PaddleController {
+
+    private final int maxSpeed; // Maximum paddle movement per step, in pixels
+    private final double aimOffset; // Offset from the paddle's center used to steer the ball
+
+    /**
+     * Creates a tracking controller.
+     *
+     * @param seed     The seed used to pick this controller's aim.
+     * @param maxSpeed The maximum paddle movement per step, in pixels.
+     */
+    public TrackingPaddleController(long seed, int maxSpeed) {
+        this.maxSpeed = maxSpeed;
+        this.aimOffset = (new Random(seed).nextDouble() - 0.5) * GameState.BREAK_WIDTH * 0.8;
+    }
+
+    @Override
+    public int decide(GameState state, long tick) {
+        double target = state.xBall - GameState.HALF_BREAK_WIDTH - aimOffset;
+        double distance = target - state.xBreak;
+        return (int) Math.max(-maxSpeed, Math.min(maxSpeed, Math.round(distance)));
+    }
+}
@@ -0,0 +1,78 @@
+package brickGame.Model.clock;
+
+/**
+ * Base implementation of {@link GameClock} on top of a raw nanosecond time source.
+ * Game time is kept as the time accumulated up to the last anchor point plus the scaled raw time since then;
+ * the anchor is moved whenever the paused state or the time scale changes.
+ */
+public abstract class AbstractGameClock implements GameClock {
+
+    private long accumulatedNanos = 0; // Game time accumulated up to the anchor
+    private long anchorRawNanos; // Raw time at which the anchor was taken
+    private double timeScale = 1.0; // Rate of game time relative to raw time
+    private boolean paused = false; // Whether game time is frozen
+
+    /**
+     * Creates the clock and anchors it at the current raw time.
+     */
+    protected AbstractGameClock() {
+        anchorRawNanos = rawNanos();
+    }
+
+    /**
+     * Reads the underlying monotonic time source.
+     *
+     * @return The raw time in nanoseconds.
+     */
+    protected abstract long rawNanos();
+
+    @Override
+    public synchronized long elapsedNanos() {
+        if (paused) {
+            return accumulatedNanos;
+        }
+        return accumulatedNanos + (long) ((rawNanos() - anchorRawNanos) * timeScale);
+    }
+
+    @Override
+    public synchronized void reset() {
+        accumulatedNanos = 0;
+        anchorRawNanos = rawNanos();
+    }
+
+    @Override
+    public synchronized void pause() {
+        if (!paused) {
+            accumulatedNanos = elapsedNanos();
+            paused = true;
+        }
+    }
+
+    @Override
+    public synchronized void resume() {
+        if (paused) {
+            anchorRawNanos = rawNanos();
+            paused = false;
+        }
+    }
+
+    @Override
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public synchronized void setTimeScale(double timeScale) {
+        if (timeScale < 0) {
+            throw new IllegalArgumentException("Time scale must not be negative: " + timeScale);
+        }
+        accumulatedNanos = elapsedNanos();
+        anchorRawNanos = rawNanos();
+        this.timeScale = timeScale;
+    }
+
+    @Override
+    public synchronized double getTimeScale() {
+        return timeScale;
+    }
+}
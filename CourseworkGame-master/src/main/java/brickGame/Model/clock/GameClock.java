@@ -0,0 +1,61 @@
+package brickGame.Model.clock;
+
+/**
+ * A monotonic source of in-game time.
+ * Game time only advances while the clock is running, and it advances at the configured time scale,
+ * so pausing the game or slowing it down is reflected in every value derived from the clock.
+ */
+public interface GameClock {
+
+    /**
+     * Gets the game time elapsed since the last reset.
+     *
+     * @return Elapsed game time in nanoseconds.
+     */
+    long elapsedNanos();
+
+    /**
+     * Gets the game time elapsed since the last reset.
+     *
+     * @return Elapsed game time in milliseconds.
+     */
+    default long elapsedMillis() {
+        return elapsedNanos() / 1_000_000L;
+    }
+
+    /**
+     * Resets elapsed game time to zero without changing the paused state or time scale.
+     */
+    void reset();
+
+    /**
+     * Stops game time from advancing until resume() is called.
+     */
+    void pause();
+
+    /**
+     * Lets game time advance again after a pause.
+     */
+    void resume();
+
+    /**
+     * Checks if the clock is currently paused.
+     *
+     * @return True if game time is frozen, false otherwise.
+     */
+    boolean isPaused();
+
+    /**
+     * Sets the rate at which game time advances relative to the underlying time source.
+     *
+     * @param timeScale The scale factor, e.g. 0.5 for half speed or 2.0 for double speed. Must not be negative.
+     */
+    void setTimeScale(double timeScale);
+
+    /**
+     * Gets the rate at which game time advances relative to the underlying time source.
+     *
+     * @return The current time scale.
+     */
+    double getTimeScale();
+}
@@ -0,0 +1,37 @@
+package brickGame.Model.clock;
+
+/**
+ * Game clock whose raw time only moves when advance() is called.
+ * Useful for tests and headless runs that need fully reproducible timing.
+ */
+public class ManualGameClock extends AbstractGameClock {
+
+    private long rawNanos = 0; // Raw time, moved only by advance()
+
+    @Override
+    protected synchronized long rawNanos() {
+        return rawNanos;
+    }
+
+    /**
+     * Moves the raw time source forward.
+     * Game time advances by the given amount multiplied by the time scale, unless the clock is paused.
+     *
+     * @param nanos The amount of raw time to add, in nanoseconds.
+     */
+    public synchronized void advance(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Cannot advance by a negative amount: " + nanos);
+        }
+        rawNanos += nanos;
+    }
+
+    /**
+     * Moves the raw time source forward by a number of milliseconds.
+     *
+     * @param millis The amount of raw time to add, in milliseconds.
+     */
+    public void advanceMillis(long millis) {
+        advance(millis * 1_000_000L);
+    }
+}
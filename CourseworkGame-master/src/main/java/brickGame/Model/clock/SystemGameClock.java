@@ -0,0 +1,13 @@
+package brickGame.Model.clock;
+
+/**
+ * Game clock backed by {@link System#nanoTime()}.
+ * This is the clock used while actually playing; it is monotonic and unaffected by wall-clock adjustments.
+ */
+public class SystemGameClock extends AbstractGameClock {
+
+    @Override
+    protected long rawNanos() {
+        return System.nanoTime();
+    }
+}
@@ -0,0 +1,105 @@
+package brickGame.Model.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer/single-consumer ring buffer of timestamped input events.
+ * The JavaFX thread offers key events as they arrive and the simulation drains them at the next step boundary,
+ * so no locks or allocations sit between a key press and the step that applies it.
+ * Each event is a key bit, whether it was pressed or released, and the System.nanoTime() it was received at.
+ */
+public class InputEventRing {
+
+    private static final int CAPACITY = 256; // Must be a power of two
+    private static final int MASK = CAPACITY - 1;
+
+    private final int[] keys = new int[CAPACITY]; // Key bit of each event
+    private final boolean[] pressed = new boolean[CAPACITY]; // True for a press, false for a release
+    private final long[] timestamps = new long[CAPACITY]; // When each event was received
+
+    // Sequence numbers; each is written by one thread only and published with an ordered store
+    private final AtomicLong head = new AtomicLong(); // Next event to drain, advanced by the consumer
+    private final AtomicLong tail = new AtomicLong(); // Next free slot, advanced by the producer
+    private volatile long dropped = 0; // Events lost to a full ring; written by the producer only, read from any thread
+
+    /**
+     * Receives the events drained from the ring.
+     */
+    @FunctionalInterface
+    public interface Consumer {
+
+        /**
+         * Handles one input event.
+         *
+         * @param key        The key bit.
+         * @param pressed    True if the key was pressed, false if released.
+         * @param receivedAt System.nanoTime() when the event was received.
+         */
+        void accept(int key, boolean pressed, long receivedAt);
+    }
+
+    /**
+     * Adds an event. Must only be called from the producer thread.
+     * If the consumer has fallen a full ring behind, the event is dropped.
+     *
+     * @param key        The key bit.
+     * @param isPressed  True if the key was pressed, false if released.
+     * @param receivedAt System.nanoTime() when the event was received.
+     * @return True if the event was added, false if it was dropped.
+     */
+    public boolean offer(int key, boolean isPressed, long receivedAt) {
+        long slot = tail.get();
+        if (slot - head.get() == CAPACITY) {
+            dropped++;
+            return false;
+        }
+        int index = (int) slot & MASK;
+        keys[index] = key;
+        pressed[index] = isPressed;
+        timestamps[index] = receivedAt;
+        tail.lazySet(slot + 1); // Publishes the slot's contents to the consumer
+        return true;
+    }
+
+    /**
+     * Hands every queued event to the consumer, oldest first. Must only be called from the consumer thread.
+     *
+     * @param consumer Receives the events.
+     * @return The number of events drained.
+     */
+    public int drain(Consumer consumer) {
+        long first = head.get();
+        long end = tail.get();
+        for (long slot = first; slot < end; slot++) {
+            int index = (int) slot & MASK;
+            consumer.accept(keys[index], pressed[index], timestamps[index]);
+        }
+        if (end != first) {
+            head.lazySet(end); // Hands the slots back to the producer
+        }
+        return (int) (end - first);
+    }
+
+    /**
+     * Throws away every queued event without handling it. Must only be called from the consumer thread.
+     *
+     * @return The number of events discarded.
+     */
+    public int clear() {
+        long first = head.get();
+        long end = tail.get();
+        if (end != first) {
+            head.lazySet(end); // Hands the slots back to the producer
+        }
+        return (int) (end - first);
+    }
+
+    /**
+     * Gets the number of events dropped because the ring was full. Safe to call from any thread.
+     *
+     * @return The dropped event count.
+     */
+    public long getDropped() {
+        return dropped;
+    }
+}
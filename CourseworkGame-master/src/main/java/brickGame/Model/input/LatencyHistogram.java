@@ -0,0 +1,94 @@
+package brickGame.Model.input;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies with power-of-two microsecond buckets, cheap enough to update on every input event.
+ * Bucket 0 counts latencies under 1 microsecond and bucket n counts those from 2^(n-1) up to 2^n microseconds,
+ * so percentiles are reported as the upper bound of the bucket they fall in.
+ * Recording is safe from any thread, and reports can be taken while recording continues.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 32; // Up to about 35 minutes, far beyond any real latency
+
+    private final String name; // Shown in reports
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLongArray totals = new AtomicLongArray(2); // Sample count and the sum of all samples, in nanoseconds
+    private volatile long maxNanos = 0;
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param name The name shown in reports.
+     */
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Adds one latency sample.
+     *
+     * @param nanos The latency, in nanoseconds. Negative values are counted as zero.
+     */
+    public void record(long nanos) {
+        nanos = Math.max(0, nanos);
+        long micros = nanos / 1000;
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        counts.incrementAndGet(bucket);
+        totals.incrementAndGet(0);
+        totals.addAndGet(1, nanos);
+        if (nanos > maxNanos) {
+            maxNanos = nanos; // Racy, but a lost update only under-reports a near-identical maximum
+        }
+    }
+
+    /**
+     * Gets the number of samples recorded.
+     *
+     * @return The sample count.
+     */
+    public long getCount() {
+        return totals.get(0);
+    }
+
+    /**
+     * Gets an upper bound for a percentile of the recorded latencies.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The upper bound of the bucket holding the percentile, in microseconds, or 0 if nothing was recorded.
+     */
+    public long percentileMicros(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= Math.max(1, rank)) {
+                return 1L << i;
+            }
+        }
+        return 1L << (BUCKETS - 1);
+    }
+
+    /**
+     * Builds a one-line summary of the distribution.
+     *
+     * @return The summary.
+     */
+    public String report() {
+        long count = getCount();
+        double averageMs = count == 0 ? 0 : totals.get(1) / 1e6 / count;
+        return String.format("%s: %d samples, avg %.2f ms, p50 <= %.2f ms, p90 <= %.2f ms, p99 <= %.2f ms, max %.2f ms",
+                name, count, averageMs, percentileMicros(50) / 1e3, percentileMicros(90) / 1e3,
+                percentileMicros(99) / 1e3, maxNanos / 1e6);
+    }
+}
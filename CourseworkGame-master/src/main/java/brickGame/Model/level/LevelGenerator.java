@@ -0,0 +1,239 @@
+package brickGame.Model.level;
+
+import brickGame.Model.BlockStore;
+import brickGame.Model.GameState;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Builds the board of every level from a seed.
+ * Each board is a pure function of the simulation's seed, the game number and the level, drawn from a random
+ * generator of its own, so a board can be built at any time and on any thread without changing the game.
+ * While a level is played, the next one can be prefetched on a background daemon thread; starting that level
+ * then only copies the finished board into the state. A {@link PrefetchListener} is told about every prefetched
+ * board, so views for it can be built off the JavaFX thread as well.
+ */
+public class LevelGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(LevelGenerator.class.getName());
+
+    // Board layout: level + 1 rows of COLUMNS blocks
+    public static final int COLUMNS = 4;
+
+    // Block colors packed as 0xAARRGGBB
+    private static final int[] COLORS = new int[]{
+            0xFFFF00FF, // MAGENTA
+            0xFFFF0000, // RED
+            0xFFFFD700, // GOLD
+            0xFFFF7F50, // CORAL
+            0xFF00FFFF, // AQUA
+            0xFFEE82EE, // VIOLET
+            0xFFADFF2F, // GREENYELLOW
+            0xFFFFA500, // ORANGE
+            0xFFFFC0CB, // PINK
+            0xFF708090, // SLATEGREY
+            0xFFFFFF00, // YELLOW
+            0xFFFF6347, // TOMATO
+            0xFFD2B48C, // TAN
+    };
+
+    /**
+     * Told about every board built ahead of time. Called on the prefetch thread; the board must not be modified.
+     */
+    public interface PrefetchListener {
+        void onLevelPrefetched(BlockStore board);
+    }
+
+    private final long seed; // Seed of the simulation the boards belong to
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "LevelPrefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean prefetching = false; // Whether boards are built ahead of time
+    private PrefetchListener listener; // Told about prefetched boards, or null
+
+    // The board being built ahead of time, only touched by the thread that takes boards
+    private Future<BlockStore> pending;
+    private int pendingGame;
+    private int pendingLevel;
+
+    // Statistics, only updated by the thread that takes boards
+    private long prefetchHits = 0;
+    private long prefetchMisses = 0;
+    private long waitNanos = 0;
+
+    /**
+     * Creates a generator for the boards of one simulation.
+     *
+     * @param seed The seed of the simulation.
+     */
+    public LevelGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Turns building the next board on a background thread on or off. Off by default, so headless runs
+     * such as replays and batches build every board on their own thread.
+     *
+     * @param prefetching True to build boards ahead of time.
+     */
+    public void setPrefetching(boolean prefetching) {
+        this.prefetching = prefetching;
+    }
+
+    /**
+     * Sets the listener told about prefetched boards. Must be set before the first board is prefetched.
+     *
+     * @param listener The listener, or null.
+     */
+    public void setPrefetchListener(PrefetchListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Gets the board of a level, using the prefetched one if it was built ahead of time.
+     * Waits for the prefetch if it is still running, which only happens if a level is finished within
+     * a few microseconds of starting it.
+     *
+     * @param game  The number of the game, counting restarts.
+     * @param level The level.
+     * @return The board; it must not be modified, copy it into the state instead.
+     */
+    public BlockStore take(int game, int level) {
+        Future<BlockStore> prefetched = pending;
+        pending = null;
+        if (prefetched != null && pendingGame == game && pendingLevel == level) {
+            long start = System.nanoTime();
+            try {
+                BlockStore board = prefetched.get();
+                waitNanos += System.nanoTime() - start;
+                prefetchHits++;
+                return board;
+            } catch (ExecutionException e) {
+                LOGGER.log(Level.WARNING, "Prefetching level " + level + " failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else if (prefetched != null) {
+            prefetched.cancel(false); // Built for a game or level that is not coming, e.g. after a restart
+        }
+        prefetchMisses++;
+        return generate(game, level);
+    }
+
+    /**
+     * Starts building the board of a level in the background, if prefetching is on and the level exists.
+     *
+     * @param game  The number of the game, counting restarts.
+     * @param level The level.
+     */
+    public void prefetch(int game, int level) {
+        if (!prefetching || level > GameState.LAST_LEVEL) {
+            return;
+        }
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        PrefetchListener notify = listener;
+        pendingGame = game;
+        pendingLevel = level;
+        pending = executor.submit(() -> {
+            BlockStore board = generate(game, level);
+            if (notify != null) {
+                notify.onLevelPrefetched(board);
+            }
+            return board;
+        });
+    }
+
+    /**
+     * Builds the board of a level on the calling thread.
+     *
+     * @param game  The number of the game, counting restarts.
+     * @param level The level.
+     * @return The new board.
+     */
+    public BlockStore generate(int game, int level) {
+        BlockStore board = new BlockStore();
+        fill(board, level, new Random(levelSeed(seed, game, level)));
+        return board;
+    }
+
+    /**
+     * Adds the blocks of a level to a block store: level + 1 rows of four blocks with random types and colors,
+     * and at most one heart block. Blocks are drawn column by column.
+     *
+     * @param blocks The store to add the blocks to.
+     * @param level  The level.
+     * @param random The random number generator to draw the blocks from.
+     * @return True if a heart block was placed.
+     */
+    public static boolean fill(BlockStore blocks, int level, Random random) {
+        boolean heartPlaced = false;
+        for (int i = 0; i < COLUMNS; i++) {
+            for (int j = 0; j < level + 1; j++) {
+                int r = random.nextInt(500);
+
+                int type;
+                if (r % 10 == 1) {
+                    type = BlockStore.BLOCK_CHOCO;
+                } else if (r % 10 == 2) {
+                    if (!heartPlaced) {
+                        type = BlockStore.BLOCK_HEART;
+                        heartPlaced = true;
+                    } else {
+                        type = BlockStore.BLOCK_NORMAL;
+                    }
+                } else if (r % 10 == 3) {
+                    type = BlockStore.BLOCK_STAR;
+                } else {
+                    type = BlockStore.BLOCK_NORMAL;
+                }
+                blocks.add(j, i, type, COLORS[r % (COLORS.length)]);
+            }
+        }
+        return heartPlaced;
+    }
+
+    /**
+     * Derives the seed of one board from the simulation's seed, mixing the bits so neighbouring levels
+     * and games get unrelated boards.
+     *
+     * @param seed  The seed of the simulation.
+     * @param game  The number of the game, counting restarts.
+     * @param level The level.
+     * @return The seed of the board.
+     */
+    static long levelSeed(long seed, int game, int level) {
+        return mix(seed ^ mix(((long) game << 32) | (level & 0xFFFFFFFFL)));
+    }
+
+    /**
+     * Scrambles the bits of a long (the SplitMix64 finalizer).
+     *
+     * @param z The value to scramble.
+     * @return The scrambled value.
+     */
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Builds a one-line summary of how many boards were ready in time.
+     *
+     * @return The summary.
+     */
+    public String report() {
+        return String.format("LevelGenerator: %d prefetched boards used, %d built on demand, %.3f ms waited",
+                prefetchHits, prefetchMisses, waitNanos / 1e6);
+    }
+}
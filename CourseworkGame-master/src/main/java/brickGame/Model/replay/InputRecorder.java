@@ -0,0 +1,124 @@
+package brickGame.Model.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Records everything needed to reproduce a session: the simulation's seed and every input
+ * applied to it, stamped with the physics step it was applied at.
+ * Recordings are written in a compact binary format read back by {@link ReplayEngine}:
+ * a header (magic, version, seed, start time) followed by one record per event holding the
+ * step delta as a variable-length integer, the event type and, for paddle moves and key changes, a value byte.
+ */
+public class InputRecorder {
+
+    // File format identification
+    static final int MAGIC = 0x42524B52; // "BRKR"
+    static final int VERSION = 3; // Version 2 added KEY_STATE events, version 3 gave every board a seed of its own
+
+    // Event types
+    public static final byte END = 0; // Marks the last step of the recording
+    public static final byte PADDLE_MOVE = 1; // The paddle was moved by the event's value
+    public static final byte NEXT_LEVEL = 2; // The board was reset for the next level
+    public static final byte RESTART = 3; // The game was restarted from the first level
+    public static final byte KEY_STATE = 4; // The paddle keys held changed to the event's value
+
+    private final long seed; // Seed of the recorded simulation
+    private final long startedAt = System.currentTimeMillis(); // Wall-clock start of the recording
+    private long[] ticks = new long[256]; // Step at which each event was applied
+    private byte[] types = new byte[256]; // Type of each event
+    private int[] values = new int[256]; // Value of each event
+    private int count = 0; // Number of recorded events
+    private long lastTick = 0; // Highest step seen so far
+
+    /**
+     * Creates a recorder for a simulation.
+     *
+     * @param seed The seed the simulation was created with.
+     */
+    public InputRecorder(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Records an input event.
+     *
+     * @param tick  The physics step at which the event was applied.
+     * @param type  The type of the event.
+     * @param value The value of the event, e.g. the paddle delta.
+     */
+    public synchronized void record(long tick, byte type, int value) {
+        if (count == ticks.length) {
+            ticks = Arrays.copyOf(ticks, count * 2);
+            types = Arrays.copyOf(types, count * 2);
+            values = Arrays.copyOf(values, count * 2);
+        }
+        ticks[count] = tick;
+        types[count] = type;
+        values[count] = value;
+        count++;
+        lastTick = Math.max(lastTick, tick);
+    }
+
+    /**
+     * Gets the number of events recorded so far.
+     *
+     * @return The event count.
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Writes the recording to a file, ending it at the given step.
+     * The recorder can keep recording afterwards and be saved again.
+     *
+     * @param file    The file to write.
+     * @param endTick The step the session has reached; the replay runs up to this step.
+     * @throws IOException if the file cannot be written.
+     */
+    public synchronized void save(File file, long endTick) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.exists()) {
+            directory.mkdirs();
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+            out.writeLong(startedAt);
+
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                writeVarLong(out, ticks[i] - previous);
+                out.writeByte(types[i]);
+                if (types[i] == PADDLE_MOVE || types[i] == KEY_STATE) {
+                    out.writeByte(values[i]);
+                }
+                previous = ticks[i];
+            }
+            writeVarLong(out, Math.max(endTick, lastTick) - previous);
+            out.writeByte(END);
+        }
+    }
+
+    /**
+     * Writes a non-negative long using 7 bits per byte, low bits first.
+     *
+     * @param out   The stream to write to.
+     * @param value The value to write.
+     * @throws IOException if the stream cannot be written.
+     */
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
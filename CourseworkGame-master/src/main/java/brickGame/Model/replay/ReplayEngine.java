@@ -0,0 +1,208 @@
+package brickGame.Model.replay;
+
+import brickGame.Model.GameState;
+import brickGame.Model.Simulation;
+import brickGame.Model.SimulationListener;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Re-runs a session recorded by an {@link InputRecorder} on a headless {@link Simulation}.
+ * The simulation is rebuilt from the recorded seed, and every recorded input is applied right before
+ * the physics step it was originally applied at, so the replay reproduces the session exactly.
+ * Replays can run as fast as possible, or paced at the simulation's physics rate.
+ */
+public class ReplayEngine {
+
+    private final int version; // Format version of the recording
+    private final long seed; // Seed of the recorded simulation
+    private final long startedAt; // Wall-clock start of the recording
+    private final long[] ticks; // Step at which each event was applied
+    private final byte[] types; // Type of each event
+    private final int[] values; // Value of each event
+    private final long endTick; // Step at which the recording ends
+
+    /**
+     * Loads a recording from a file.
+     *
+     * @param file The recording to load.
+     * @throws IOException if the file cannot be read or is not a recording.
+     */
+    public ReplayEngine(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != InputRecorder.MAGIC) {
+                throw new IOException("Not a recording: " + file.getPath());
+            }
+            version = in.readUnsignedByte();
+            if (version < 1 || version > InputRecorder.VERSION) {
+                throw new IOException("Unsupported recording version " + version + ": " + file.getPath());
+            }
+            seed = in.readLong();
+            startedAt = in.readLong();
+
+            long[] eventTicks = new long[256];
+            byte[] eventTypes = new byte[256];
+            int[] eventValues = new int[256];
+            int count = 0;
+            long tick = 0;
+            while (true) {
+                tick += readVarLong(in);
+                byte type = in.readByte();
+                if (type == InputRecorder.END) {
+                    break;
+                }
+                if (count == eventTicks.length) {
+                    eventTicks = Arrays.copyOf(eventTicks, count * 2);
+                    eventTypes = Arrays.copyOf(eventTypes, count * 2);
+                    eventValues = Arrays.copyOf(eventValues, count * 2);
+                }
+                eventTicks[count] = tick;
+                eventTypes[count] = type;
+                eventValues[count] = type == InputRecorder.PADDLE_MOVE || type == InputRecorder.KEY_STATE ? in.readByte() : 0;
+                count++;
+            }
+            ticks = Arrays.copyOf(eventTicks, count);
+            types = Arrays.copyOf(eventTypes, count);
+            values = Arrays.copyOf(eventValues, count);
+            endTick = tick;
+        } catch (EOFException e) {
+            throw new IOException("Truncated recording: " + file.getPath(), e);
+        }
+    }
+
+    /**
+     * Replays the session on a fresh headless simulation.
+     *
+     * @param realTime True to pace the replay at the simulation's physics rate, false to run as fast as possible.
+     * @param listener Listener notified of game events during the replay, or null.
+     * @return The final state of the replayed session.
+     */
+    public GameState replay(boolean realTime, SimulationListener listener) {
+        GameState state = new GameState();
+        Simulation simulation = new Simulation(state, seed);
+        if (version < 3) {
+            simulation.useLegacyBoards(); // Recorded before boards had seeds of their own
+        }
+        if (listener != null) {
+            simulation.setListener(listener);
+        }
+        simulation.startNextLevel(); // The live game builds its first board at launch
+
+        final long stepNanos = 1_000_000_000L / Simulation.PHYSICS_HZ;
+        long start = System.nanoTime();
+        int next = 0;
+        while (simulation.getTotalTicks() < endTick) {
+            long tick = simulation.getTotalTicks();
+            while (next < ticks.length && ticks[next] == tick) {
+                apply(simulation, types[next], values[next]);
+                next++;
+            }
+            simulation.step();
+
+            if (realTime) {
+                long sleepNanos = (tick + 1) * stepNanos - (System.nanoTime() - start);
+                if (sleepNanos > 0) {
+                    try {
+                        Thread.sleep(sleepNanos / 1_000_000L, (int) (sleepNanos % 1_000_000L));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Applies one recorded event to the simulation, the same way the live game did.
+     *
+     * @param simulation The simulation being replayed.
+     * @param type       The type of the event.
+     * @param value      The value of the event.
+     */
+    private static void apply(Simulation simulation, byte type, int value) {
+        switch (type) {
+            case InputRecorder.PADDLE_MOVE:
+                simulation.movePaddle(value);
+                break;
+            case InputRecorder.KEY_STATE:
+                simulation.getPaddleInput().set(value); // Sampled by the step that follows, as it was live
+                break;
+            case InputRecorder.NEXT_LEVEL:
+                simulation.advanceLevel();
+                break;
+            case InputRecorder.RESTART:
+                simulation.resetGame();
+                simulation.startNextLevel();
+                break;
+            default:
+                throw new IllegalStateException("Unknown event type " + type);
+        }
+    }
+
+    /**
+     * Reads a non-negative long written by InputRecorder.writeVarLong.
+     *
+     * @param in The stream to read from.
+     * @return The value read.
+     * @throws IOException if the stream cannot be read.
+     */
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    // Getters for the recording's header
+    public int getVersion() {
+        return version;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public long getEndTick() {
+        return endTick;
+    }
+
+    /**
+     * Command-line entry point: replays a recording and prints the final state.
+     * Arguments: the recording file, and optionally "realtime" to pace the replay.
+     *
+     * @param args Command-line arguments.
+     * @throws IOException if the recording cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayEngine <recording> [realtime]");
+            return;
+        }
+        ReplayEngine engine = new ReplayEngine(new File(args[0]));
+        boolean realTime = args.length > 1 && args[1].equalsIgnoreCase("realtime");
+
+        long start = System.nanoTime();
+        GameState state = engine.replay(realTime, null);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("Replayed %d steps in %.3f s (%.0f steps/s)%n", engine.getEndTick(), seconds, engine.getEndTick() / seconds);
+        System.out.printf("Level %d, score %d, hearts %d%s%n", state.level, state.score, state.heart,
+                state.won ? ", won" : state.gameOver ? ", game over" : "");
+    }
+}
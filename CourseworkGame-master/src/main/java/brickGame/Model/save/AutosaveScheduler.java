@@ -0,0 +1,154 @@
+package brickGame.Model.save;
+
+import java.util.logging.Logger;
+
+/**
+ * Decides when to write autosave checkpoints.
+ * Checkpoints are triggered every so many seconds of game time, and optionally on level-up and on heart loss.
+ * Triggers only mark a checkpoint as pending; it is taken at the next physics step, so a burst of triggers
+ * produces a single write. Because the scheduler is driven by physics steps and game time, it stands still
+ * whenever the engine is paused.
+ * <p>
+ * Taking a checkpoint costs the game thread the time to snapshot the state. The scheduler measures that
+ * cost and spaces checkpoints so it never exceeds a set share of the game time between them.
+ * All methods must be called on the thread stepping the simulation.
+ */
+public class AutosaveScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(AutosaveScheduler.class.getName());
+
+    /**
+     * Takes a checkpoint; called at a step boundary.
+     */
+    public interface Checkpoint {
+        void take();
+    }
+
+    // Reasons a checkpoint can be requested
+    public static final int INTERVAL = 1;
+    public static final int LEVEL_UP = 1 << 1;
+    public static final int HEART_LOST = 1 << 2;
+
+    private final Checkpoint checkpoint;
+    private long intervalNanos = 30_000_000_000L; // Game time between interval checkpoints, 0 to disable
+    private int enabledTriggers = INTERVAL | LEVEL_UP | HEART_LOST;
+    private double maxFrameShare = 0.01; // Largest share of game time checkpoints may take
+    private long minGapNanos = 1_000_000_000L; // Never checkpoint more often than this, to spare the disk
+
+    private long gameNanos = 0; // Game time seen by the scheduler
+    private long lastCheckpointAt = 0; // Game time of the last checkpoint
+    private long lastCostNanos = 0; // Time the last checkpoint took on the game thread
+    private int pending = 0; // Reasons waiting for the next checkpoint
+    private long checkpoints = 0;
+    private long coalesced = 0; // Triggers folded into a checkpoint that was already pending
+    private long deferred = 0; // Steps a pending checkpoint waited because of the rate limit
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param checkpoint Takes a checkpoint when one is due.
+     */
+    public AutosaveScheduler(Checkpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Sets how much game time passes between interval checkpoints.
+     *
+     * @param seconds The interval in seconds, or 0 to disable interval checkpoints.
+     */
+    public void setIntervalSeconds(double seconds) {
+        this.intervalNanos = (long) (seconds * 1e9);
+    }
+
+    /**
+     * Chooses which events trigger a checkpoint.
+     *
+     * @param triggers A combination of INTERVAL, LEVEL_UP and HEART_LOST.
+     */
+    public void setEnabledTriggers(int triggers) {
+        this.enabledTriggers = triggers;
+    }
+
+    /**
+     * Sets the largest share of game time that taking checkpoints may cost.
+     *
+     * @param maxFrameShare The share, e.g. 0.01 for 1%.
+     */
+    public void setMaxFrameShare(double maxFrameShare) {
+        this.maxFrameShare = maxFrameShare;
+    }
+
+    /**
+     * Sets the shortest game time allowed between two checkpoints.
+     *
+     * @param millis The gap in milliseconds.
+     */
+    public void setMinGapMillis(long millis) {
+        this.minGapNanos = millis * 1_000_000L;
+    }
+
+    /**
+     * Requests a checkpoint at the next step, if the trigger is enabled.
+     *
+     * @param reason One of LEVEL_UP or HEART_LOST.
+     */
+    public void trigger(int reason) {
+        if ((enabledTriggers & reason) == 0) {
+            return;
+        }
+        if (pending != 0) {
+            coalesced++;
+        }
+        pending |= reason;
+    }
+
+    /**
+     * Drops every pending checkpoint and restarts the interval, e.g. when a game ends, so nothing requested
+     * during the old game is written over the slot once a new one starts.
+     */
+    public void cancelPending() {
+        pending = 0;
+        lastCheckpointAt = gameNanos;
+    }
+
+    /**
+     * Called after every physics step: advances game time and takes a checkpoint if one is due and allowed.
+     *
+     * @param stepNanos The game time covered by the step.
+     */
+    public void onStep(long stepNanos) {
+        gameNanos += stepNanos;
+        if ((enabledTriggers & INTERVAL) != 0 && intervalNanos > 0 && gameNanos - lastCheckpointAt >= intervalNanos) {
+            trigger(INTERVAL);
+        }
+        if (pending == 0) {
+            return;
+        }
+
+        // Space checkpoints so their cost stays within the allowed share of game time
+        long gap = Math.max(minGapNanos, (long) (lastCostNanos / maxFrameShare));
+        if (gameNanos - lastCheckpointAt < gap) {
+            deferred++;
+            return;
+        }
+
+        long start = System.nanoTime();
+        checkpoint.take();
+        lastCostNanos = System.nanoTime() - start;
+        lastCheckpointAt = gameNanos;
+        checkpoints++;
+        LOGGER.fine("Autosave checkpoint (reasons " + pending + ") took " + lastCostNanos / 1000 + " us");
+        pending = 0;
+    }
+
+    /**
+     * Builds a summary of the checkpoints taken so far.
+     *
+     * @return The summary.
+     */
+    public String report() {
+        return String.format("Autosave: %d checkpoints, %d triggers coalesced, %d steps deferred, last cost %d us",
+                checkpoints, coalesced, deferred, lastCostNanos / 1000);
+    }
+}
@@ -0,0 +1,421 @@
+package brickGame.Model.save;
+
+import brickGame.Model.Block;
+import brickGame.Model.BlockSerializable;
+import brickGame.Model.BlockStore;
+import brickGame.Model.GameState;
+import brickGame.Model.LoadSave;
+import brickGame.Model.level.LevelGenerator;
+import javafx.scene.paint.Color;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes saved games in a versioned binary format.
+ * <p>
+ * A save starts with a fixed 16 byte header: the magic "BRKS", the schema version, the length of the
+ * payload and a CRC-32 of the payload. The payload holds the state's fields at fixed offsets, followed by a
+ * color palette and a packed table of the remaining blocks, four bytes each (row, column, type and palette
+ * index). All values are little-endian.
+ * <p>
+ * Files written by the old ObjectOutputStream based saves are recognised and migrated on load.
+ */
+public class SaveFile {
+
+    // File format identification
+    static final int MAGIC = 0x534B5242; // "BRKS" when read as little-endian bytes
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 16;
+
+    // Fixed part of the version 1 payload
+    private static final int FIELDS_BYTES = 4 * 4 + 7 * 8 + 3 * 8 + 4;
+    private static final int MAX_PALETTE = 256; // Palette indices are stored in a single byte
+    private static final int MAX_GRID_INDEX = 0xFF; // Rows and columns are stored in a single unsigned byte
+
+    // Bits of the flags field
+    private static final int FLAG_HEART_BLOCK = 1;
+    private static final int FLAG_GOLD = 1 << 1;
+    private static final int FLAG_DOWN = 1 << 2;
+    private static final int FLAG_RIGHT = 1 << 3;
+    private static final int FLAG_BREAK = 1 << 4;
+    private static final int FLAG_BREAK_RIGHT = 1 << 5;
+    private static final int FLAG_RIGHT_WALL = 1 << 6;
+    private static final int FLAG_LEFT_WALL = 1 << 7;
+    private static final int FLAG_RIGHT_BLOCK = 1 << 8;
+    private static final int FLAG_BOTTOM_BLOCK = 1 << 9;
+    private static final int FLAG_LEFT_BLOCK = 1 << 10;
+    private static final int FLAG_TOP_BLOCK = 1 << 11;
+
+    private SaveFile() {
+    }
+
+    /**
+     * Writes a game state to a file, replacing any previous contents atomically.
+     * The state must not change while it is being encoded.
+     *
+     * @param state The state to save.
+     * @param file  The file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(GameState state, File file) throws IOException {
+        writeAtomically(encode(state), file);
+    }
+
+    /**
+     * Writes an encoded save to a file so that readers only ever see the old or the new contents.
+     * The data goes to a temporary file next to the target, is flushed to disk and then renamed over the target.
+     *
+     * @param data The encoded save, from its position to its limit.
+     * @param file The file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void writeAtomically(ByteBuffer data, File file) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.exists()) {
+            directory.mkdirs();
+        }
+
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+        ByteBuffer buffer = data.duplicate();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Encodes a game state into a complete save, header included.
+     *
+     * @param state The state to encode.
+     * @return A buffer positioned at the start of the save and limited to its end.
+     * @throws IOException if the state uses more colors, rows or columns than the format can hold.
+     */
+    public static ByteBuffer encode(GameState state) throws IOException {
+        BlockStore blocks = state.blocks;
+
+        // Build the palette of the remaining blocks' colors
+        Map<Integer, Integer> paletteIndex = new HashMap<>();
+        int[] palette = new int[MAX_PALETTE];
+        int liveBlocks = 0;
+        for (int i = blocks.nextLive(0); i >= 0; i = blocks.nextLive(i + 1)) {
+            int argb = blocks.getColor(i);
+            if (!paletteIndex.containsKey(argb)) {
+                if (paletteIndex.size() == MAX_PALETTE) {
+                    throw new IOException("Too many block colors to save: more than " + MAX_PALETTE);
+                }
+                palette[paletteIndex.size()] = argb;
+                paletteIndex.put(argb, paletteIndex.size());
+            }
+            if (!isEncodable(blocks.getRow(i), blocks.getColumn(i))) {
+                throw new IOException("Block at row " + blocks.getRow(i) + ", column " + blocks.getColumn(i)
+                        + " is outside what a save can hold");
+            }
+            liveBlocks++;
+        }
+
+        int payloadBytes = FIELDS_BYTES + 2 + paletteIndex.size() * 4 + 4 + liveBlocks * 4;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HEADER_BYTES + payloadBytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        // Header, the CRC is filled in once the payload is written
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0); // Reserved
+        buffer.putInt(payloadBytes);
+        buffer.putInt(0);
+
+        // Fixed fields
+        buffer.putInt(state.level);
+        buffer.putInt(state.score);
+        buffer.putInt(state.heart);
+        buffer.putInt(state.destroyedBlockCount);
+        buffer.putDouble(state.xBall);
+        buffer.putDouble(state.yBall);
+        buffer.putDouble(state.vX);
+        buffer.putDouble(state.vY);
+        buffer.putDouble(state.xBreak);
+        buffer.putDouble(state.yBreak);
+        buffer.putDouble(state.centerBreakX);
+        buffer.putLong(state.time);
+        buffer.putLong(state.hitTime);
+        buffer.putLong(state.goldTime);
+        buffer.putInt(packFlags(state));
+
+        // Palette and block table
+        buffer.putShort((short) paletteIndex.size());
+        for (int i = 0; i < paletteIndex.size(); i++) {
+            buffer.putInt(palette[i]);
+        }
+        buffer.putInt(liveBlocks);
+        for (int i = blocks.nextLive(0); i >= 0; i = blocks.nextLive(i + 1)) {
+            buffer.put((byte) blocks.getRow(i));
+            buffer.put((byte) blocks.getColumn(i));
+            buffer.put((byte) (blocks.getType(i) - BlockStore.BLOCK_NORMAL));
+            buffer.put((byte) (int) paletteIndex.get(blocks.getColor(i)));
+        }
+
+        buffer.putInt(12, crc(buffer, HEADER_BYTES, payloadBytes));
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Reads a saved game into a state, migrating saves written in the old format.
+     * The state's blocks are replaced and its bonuses cleared.
+     *
+     * @param file  The file to read.
+     * @param state The state to load into.
+     * @return The payload checksum of the save, which identifies it to a {@link SaveJournal}; 0 for legacy saves.
+     * @throws IOException if the file cannot be read or is not a valid save.
+     */
+    public static int read(File file, GameState state) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Save file too large: " + file);
+            }
+            buffer = ByteBuffer.allocateDirect((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the whole file is in the buffer
+            }
+            buffer.flip();
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            readLegacy(file, state);
+            return 0;
+        }
+        decode(buffer, state);
+        return buffer.getInt(12);
+    }
+
+    /**
+     * Gets the payload checksum stored in the header of an encoded save.
+     *
+     * @param save The encoded save, positioned at its start.
+     * @return The checksum.
+     */
+    public static int checksumOf(ByteBuffer save) {
+        return save.order(ByteOrder.LITTLE_ENDIAN).getInt(save.position() + 12);
+    }
+
+    /**
+     * Decodes a complete save, header included, into a state.
+     *
+     * @param buffer The save, positioned at its start.
+     * @param state  The state to load into.
+     * @throws IOException if the save is corrupt or from an unsupported version.
+     */
+    public static void decode(ByteBuffer buffer, GameState state) throws IOException {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt(start) != MAGIC) {
+            throw new IOException("Not a save file");
+        }
+        int version = buffer.getShort(start + 4);
+        int payloadBytes = buffer.getInt(start + 8);
+        int expectedCrc = buffer.getInt(start + 12);
+        if (payloadBytes < 0 || buffer.remaining() < HEADER_BYTES + payloadBytes) {
+            throw new IOException("Save file is truncated");
+        }
+        if (crc(buffer, start + HEADER_BYTES, payloadBytes) != expectedCrc) {
+            throw new IOException("Save file is corrupt: checksum mismatch");
+        }
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+
+        buffer.position(start + HEADER_BYTES);
+        state.level = buffer.getInt();
+        state.score = buffer.getInt();
+        state.heart = buffer.getInt();
+        state.destroyedBlockCount = buffer.getInt();
+        state.xBall = buffer.getDouble();
+        state.yBall = buffer.getDouble();
+        state.vX = buffer.getDouble();
+        state.vY = buffer.getDouble();
+        state.xBreak = buffer.getDouble();
+        state.yBreak = buffer.getDouble();
+        state.centerBreakX = buffer.getDouble();
+        state.time = buffer.getLong();
+        state.hitTime = buffer.getLong();
+        state.goldTime = buffer.getLong();
+        unpackFlags(state, buffer.getInt());
+
+        int[] palette = new int[buffer.getShort() & 0xFFFF];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = buffer.getInt();
+        }
+        int blockCount = buffer.getInt();
+        state.blocks.clear();
+        state.bonuses.clear();
+        for (int i = 0; i < blockCount; i++) {
+            int row = buffer.get() & 0xFF;
+            int column = buffer.get() & 0xFF;
+            int type = buffer.get() + BlockStore.BLOCK_NORMAL;
+            int color = buffer.get() & 0xFF;
+            if (color >= palette.length) {
+                throw new IOException("Save file is corrupt: bad palette index " + color);
+            }
+            if (!isOnBoard(row, column, state.level)) {
+                throw new IOException("Save file is corrupt: block at row " + row + ", column " + column
+                        + " is outside the board of level " + state.level);
+            }
+            state.blocks.add(row, column, type, palette[color]);
+        }
+    }
+
+    /**
+     * Reads a save written by the old ObjectOutputStream format into a state.
+     * Fields the old format did not store keep their current values.
+     *
+     * @param file  The legacy save file.
+     * @param state The state to load into.
+     * @throws IOException if the file cannot be read as a legacy save.
+     */
+    public static void readLegacy(File file, GameState state) throws IOException {
+        LoadSave loadSave = new LoadSave();
+        if (!loadSave.read(file)) {
+            throw new IOException("Not a save file: " + file);
+        }
+
+        state.level = loadSave.level;
+        state.score = loadSave.score;
+        state.heart = loadSave.heart;
+        state.destroyedBlockCount = loadSave.destroyedBlockCount;
+        state.xBall = loadSave.xBall;
+        state.yBall = loadSave.yBall;
+        state.xBreak = loadSave.xBreak;
+        state.yBreak = loadSave.yBreak;
+        state.centerBreakX = loadSave.centerBreakX;
+        state.time = loadSave.time;
+        state.goldTime = loadSave.goldTime;
+        state.vX = loadSave.vX;
+        state.isExistHeartBlock = loadSave.isExistHeartBlock;
+        state.isGoldStatus = loadSave.isGoldStatus;
+        state.goDownBall = loadSave.goDownBall;
+        state.goRightBall = loadSave.goRightBall;
+        state.collideToBreak = loadSave.collideToBreak;
+        state.collideToBreakAndMoveToRight = loadSave.collideToBreakAndMoveToRight;
+        state.collideToRightWall = loadSave.collideToRightWall;
+        state.collideToLeftWall = loadSave.collideToLeftWall;
+        state.collideToRightBlock = loadSave.collideToRightBlock;
+        state.collideToBottomBlock = loadSave.collideToBottomBlock;
+        state.collideToLeftBlock = loadSave.collideToLeftBlock;
+        state.collideToTopBlock = loadSave.collideToTopBlock;
+
+        state.blocks.clear();
+        state.bonuses.clear();
+        if (loadSave.blocks != null) {
+            for (BlockSerializable ser : loadSave.blocks) {
+                Color color = Color.valueOf(ser.colorString); // Convert string back to color
+                state.blocks.add(ser.row, ser.j, ser.type, Block.toArgb(color));
+            }
+        }
+    }
+
+    /**
+     * Checks if a block's grid position fits in the single bytes a save stores it in.
+     *
+     * @param row    The row of the block.
+     * @param column The column of the block.
+     * @return True if the position can be saved.
+     */
+    static boolean isEncodable(int row, int column) {
+        return row >= 0 && row <= MAX_GRID_INDEX && column >= 0 && column <= MAX_GRID_INDEX;
+    }
+
+    /**
+     * Checks if a grid position lies on the board of a level, which has level + 1 rows
+     * of {@link LevelGenerator#COLUMNS} columns.
+     *
+     * @param row    The row of the block.
+     * @param column The column of the block.
+     * @param level  The level the board belongs to.
+     * @return True if the position is on the board.
+     */
+    static boolean isOnBoard(int row, int column, int level) {
+        return row <= level && column < LevelGenerator.COLUMNS;
+    }
+
+    /**
+     * Computes the CRC-32 of a region of a buffer without moving its position.
+     *
+     * @param buffer The buffer.
+     * @param offset The start of the region.
+     * @param length The length of the region.
+     * @return The checksum.
+     */
+    private static int crc(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(offset).limit(offset + length));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Packs the state's boolean fields into a bit set.
+     *
+     * @param state The state.
+     * @return The packed flags.
+     */
+    static int packFlags(GameState state) {
+        int flags = 0;
+        if (state.isExistHeartBlock) flags |= FLAG_HEART_BLOCK;
+        if (state.isGoldStatus) flags |= FLAG_GOLD;
+        if (state.goDownBall) flags |= FLAG_DOWN;
+        if (state.goRightBall) flags |= FLAG_RIGHT;
+        if (state.collideToBreak) flags |= FLAG_BREAK;
+        if (state.collideToBreakAndMoveToRight) flags |= FLAG_BREAK_RIGHT;
+        if (state.collideToRightWall) flags |= FLAG_RIGHT_WALL;
+        if (state.collideToLeftWall) flags |= FLAG_LEFT_WALL;
+        if (state.collideToRightBlock) flags |= FLAG_RIGHT_BLOCK;
+        if (state.collideToBottomBlock) flags |= FLAG_BOTTOM_BLOCK;
+        if (state.collideToLeftBlock) flags |= FLAG_LEFT_BLOCK;
+        if (state.collideToTopBlock) flags |= FLAG_TOP_BLOCK;
+        return flags;
+    }
+
+    /**
+     * Sets the state's boolean fields from a packed bit set.
+     *
+     * @param state The state.
+     * @param flags The packed flags.
+     */
+    static void unpackFlags(GameState state, int flags) {
+        state.isExistHeartBlock = (flags & FLAG_HEART_BLOCK) != 0;
+        state.isGoldStatus = (flags & FLAG_GOLD) != 0;
+        state.goDownBall = (flags & FLAG_DOWN) != 0;
+        state.goRightBall = (flags & FLAG_RIGHT) != 0;
+        state.collideToBreak = (flags & FLAG_BREAK) != 0;
+        state.collideToBreakAndMoveToRight = (flags & FLAG_BREAK_RIGHT) != 0;
+        state.collideToRightWall = (flags & FLAG_RIGHT_WALL) != 0;
+        state.collideToLeftWall = (flags & FLAG_LEFT_WALL) != 0;
+        state.collideToRightBlock = (flags & FLAG_RIGHT_BLOCK) != 0;
+        state.collideToBottomBlock = (flags & FLAG_BOTTOM_BLOCK) != 0;
+        state.collideToLeftBlock = (flags & FLAG_LEFT_BLOCK) != 0;
+        state.collideToTopBlock = (flags & FLAG_TOP_BLOCK) != 0;
+    }
+}
@@ -0,0 +1,358 @@
+package brickGame.Model.save;
+
+import brickGame.Model.BlockStore;
+import brickGame.Model.GameState;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Journaled saves: a base snapshot written with {@link SaveFile}, followed by an append-only log of the
+ * changes made since. Saving a change costs a few bytes instead of the whole board, and because the ball
+ * and paddle are logged every few steps, a crash loses at most that many steps of play.
+ * <p>
+ * The journal lives next to the snapshot with a ".journal" suffix. It starts with a header (magic "BRKJ",
+ * version and the checksum of the snapshot it belongs to) followed by records of a type byte, a fixed-size
+ * payload and a CRC-32 of both. A torn last record is ignored on load, and a journal left over from an
+ * older snapshot is ignored as a whole. Once enough records have piled up, or a new level starts, the
+ * journal is compacted: a fresh snapshot is written and the journal starts over.
+ * <p>
+ * The record methods must be called on the thread stepping the simulation; all file work is done by the
+ * {@link SaveWriter} in order.
+ */
+public class SaveJournal {
+
+    private static final Logger LOGGER = Logger.getLogger(SaveJournal.class.getName());
+
+    // File format identification
+    static final int MAGIC = 0x4A4B5242; // "BRKJ" when read as little-endian bytes
+    static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 9;
+
+    // Record types and their payload sizes
+    static final byte BLOCK_DESTROYED = 1; // row, column, score, destroyed block count
+    static final byte SCORE = 2; // score
+    static final byte HEART = 3; // hearts
+    static final byte GOLD = 4; // gold status, gold start time
+    static final byte MOTION = 5; // ball, paddle, timing and direction flags
+    private static final int[] PAYLOAD_BYTES = {0, 1 + 1 + 4 + 4, 4, 4, 1 + 8, 6 * 8 + 2 * 8 + 4};
+
+    public static final int MOTION_INTERVAL_TICKS = 12; // Log the ball and paddle every 0.1 s of play
+    public static final int COMPACT_AFTER_RECORDS = 1024; // Start a new snapshot once the journal is this long
+
+    private final File snapshotFile;
+    private final File journalFile;
+    private final SaveWriter writer;
+    private final ByteBuffer record = ByteBuffer.allocate(1 + 80 + 4).order(ByteOrder.LITTLE_ENDIAN); // Reused encoding buffer
+    private final CRC32 crc = new CRC32();
+    private boolean active = false; // Whether a base snapshot has been taken, so changes are worth logging
+    private int records = 0; // Records appended since the last snapshot
+    private FileChannel channel; // Open journal, only touched on the writer thread
+
+    /**
+     * Creates a journal for a save file.
+     *
+     * @param snapshotFile The file the base snapshot is written to.
+     * @param writer       The writer that does the file work.
+     */
+    public SaveJournal(File snapshotFile, SaveWriter writer) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = journalFileFor(snapshotFile);
+        this.writer = writer;
+    }
+
+    /**
+     * Gets the journal file that belongs to a snapshot file.
+     *
+     * @param snapshotFile The snapshot file.
+     * @return The journal file.
+     */
+    public static File journalFileFor(File snapshotFile) {
+        return new File(snapshotFile.getPath() + ".journal");
+    }
+
+    /**
+     * Writes a new base snapshot of the state and starts an empty journal after it.
+     * Must be called at a step boundary.
+     *
+     * @param state       The state to snapshot.
+     * @param requestedAt System.nanoTime() when the save was requested, used for the latency measurement.
+     * @throws IOException if the state cannot be encoded.
+     */
+    public void compact(GameState state, long requestedAt) throws IOException {
+        ByteBuffer snapshot = SaveFile.encode(state);
+        int baseChecksum = SaveFile.checksumOf(snapshot);
+        writer.submit(snapshot, snapshotFile, requestedAt);
+        writer.execute("starting the save journal", () -> {
+            closeChannel();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).put(VERSION).putInt(baseChecksum).flip();
+            channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            channel.write(header);
+        });
+        active = true;
+        records = 0;
+    }
+
+    /**
+     * Stops logging changes and closes the journal file, e.g. when the game ends.
+     */
+    public void close() {
+        active = false;
+        writer.execute("closing the save journal", this::closeChannel);
+    }
+
+    /**
+     * Called after every physics step: logs the ball and paddle every few steps and compacts the
+     * journal once it has grown long enough.
+     *
+     * @param state The state after the step.
+     * @param tick  The number of steps taken so far.
+     */
+    public void onStep(GameState state, long tick) {
+        if (!active) {
+            return;
+        }
+        if (records >= COMPACT_AFTER_RECORDS) {
+            try {
+                compact(state, System.nanoTime());
+            } catch (IOException e) {
+                LOGGER.warning("Could not compact the save journal: " + e.getMessage());
+            }
+            return;
+        }
+        if (tick % MOTION_INTERVAL_TICKS == 0) {
+            begin(MOTION);
+            record.putDouble(state.xBall).putDouble(state.yBall).putDouble(state.vX).putDouble(state.vY);
+            record.putDouble(state.xBreak).putDouble(state.centerBreakX);
+            record.putLong(state.time).putLong(state.hitTime).putInt(SaveFile.packFlags(state));
+            append();
+        }
+    }
+
+    /**
+     * Logs a destroyed block together with the score it earned.
+     *
+     * @param state The state after the block was destroyed.
+     * @param index The index of the block in the block store.
+     */
+    public void recordBlockDestroyed(GameState state, int index) {
+        if (!active) {
+            return;
+        }
+        int row = state.blocks.getRow(index);
+        int column = state.blocks.getColumn(index);
+        if (!SaveFile.isEncodable(row, column)) {
+            // The snapshot could not hold such a board either; keep the slot at its last consistent state
+            LOGGER.warning("Stopping the save journal: block at row " + row + ", column " + column + " cannot be saved");
+            active = false;
+            return;
+        }
+        begin(BLOCK_DESTROYED);
+        record.put((byte) row).put((byte) column);
+        record.putInt(state.score).putInt(state.destroyedBlockCount);
+        append();
+    }
+
+    /**
+     * Logs a change of score, e.g. after catching a bonus.
+     *
+     * @param score The new score.
+     */
+    public void recordScore(int score) {
+        if (!active) {
+            return;
+        }
+        begin(SCORE);
+        record.putInt(score);
+        append();
+    }
+
+    /**
+     * Logs a change in the number of hearts.
+     *
+     * @param heart The new number of hearts.
+     */
+    public void recordHeart(int heart) {
+        if (!active) {
+            return;
+        }
+        begin(HEART);
+        record.putInt(heart);
+        append();
+    }
+
+    /**
+     * Logs gold status starting or ending.
+     *
+     * @param gold     Whether gold status is now active.
+     * @param goldTime The time gold status started.
+     */
+    public void recordGold(boolean gold, long goldTime) {
+        if (!active) {
+            return;
+        }
+        begin(GOLD);
+        record.put((byte) (gold ? 1 : 0)).putLong(goldTime);
+        append();
+    }
+
+    /**
+     * Starts encoding a record of the given type.
+     *
+     * @param type The record type.
+     */
+    private void begin(byte type) {
+        record.clear();
+        record.put(type);
+    }
+
+    /**
+     * Finishes the record being encoded and queues it to be appended to the journal.
+     */
+    private void append() {
+        crc.reset();
+        crc.update(record.array(), 0, record.position());
+        record.putInt((int) crc.getValue());
+        byte[] bytes = new byte[record.position()];
+        System.arraycopy(record.array(), 0, bytes, 0, bytes.length);
+        records++;
+
+        writer.execute("appending to the save journal", () -> {
+            if (channel != null) {
+                channel.write(ByteBuffer.wrap(bytes));
+            }
+        });
+    }
+
+    /**
+     * Closes the journal file if it is open. Only called on the writer thread.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Loads a save: reads the snapshot and replays its journal on top of it, if there is one that belongs to it.
+     * Records after a torn or corrupt one are ignored.
+     *
+     * @param snapshotFile The snapshot file.
+     * @param state        The state to load into.
+     * @return The number of journal records replayed.
+     * @throws IOException if the snapshot cannot be read.
+     */
+    public static int load(File snapshotFile, GameState state) throws IOException {
+        int baseChecksum = SaveFile.read(snapshotFile, state);
+        File journalFile = journalFileFor(snapshotFile);
+        if (!journalFile.exists()) {
+            return 0;
+        }
+
+        ByteBuffer journal = ByteBuffer.wrap(Files.readAllBytes(journalFile.toPath())).order(ByteOrder.LITTLE_ENDIAN);
+        if (journal.remaining() < HEADER_BYTES || journal.getInt() != MAGIC || journal.get() != VERSION) {
+            LOGGER.warning("Ignoring unreadable save journal " + journalFile.getPath());
+            return 0;
+        }
+        if (journal.getInt() != baseChecksum) {
+            LOGGER.info("Ignoring save journal of an older snapshot: " + journalFile.getPath());
+            return 0;
+        }
+
+        int replayed = 0;
+        CRC32 crc = new CRC32();
+        try {
+            while (journal.hasRemaining()) {
+                int start = journal.position();
+                int type = journal.get();
+                if (type <= 0 || type >= PAYLOAD_BYTES.length) {
+                    break;
+                }
+                int length = 1 + PAYLOAD_BYTES[type];
+                crc.reset();
+                crc.update(journal.array(), start, length);
+                if (journal.getInt(start + length) != (int) crc.getValue()) {
+                    break;
+                }
+                try {
+                    apply(journal, type, state);
+                } catch (IOException e) {
+                    LOGGER.warning("Stopping save journal replay: " + e.getMessage());
+                    break;
+                }
+                journal.position(start + length + 4);
+                replayed++;
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            // A torn last record: everything before it has been applied
+        }
+        LOGGER.info("Replayed " + replayed + " save journal records from " + journalFile.getPath());
+        return replayed;
+    }
+
+    /**
+     * Applies one journal record to a state.
+     *
+     * @param journal The journal, positioned at the record's payload.
+     * @param type    The record type.
+     * @param state   The state to update.
+     * @throws IOException if the record describes a block outside the board.
+     */
+    private static void apply(ByteBuffer journal, int type, GameState state) throws IOException {
+        switch (type) {
+            case BLOCK_DESTROYED: {
+                int row = journal.get() & 0xFF;
+                int column = journal.get() & 0xFF;
+                if (!SaveFile.isOnBoard(row, column, state.level)) {
+                    throw new IOException("block at row " + row + ", column " + column + " is outside the board");
+                }
+                state.score = journal.getInt();
+                state.destroyedBlockCount = journal.getInt();
+                BlockStore blocks = state.blocks;
+                for (int i = blocks.nextLive(0); i >= 0; i = blocks.nextLive(i + 1)) {
+                    if (blocks.getRow(i) == row && blocks.getColumn(i) == column) {
+                        blocks.destroy(i);
+                        break;
+                    }
+                }
+                break;
+            }
+            case SCORE:
+                state.score = journal.getInt();
+                break;
+            case HEART:
+                state.heart = journal.getInt();
+                break;
+            case GOLD:
+                state.isGoldStatus = journal.get() != 0;
+                state.goldTime = journal.getLong();
+                break;
+            case MOTION:
+                state.xBall = journal.getDouble();
+                state.yBall = journal.getDouble();
+                state.vX = journal.getDouble();
+                state.vY = journal.getDouble();
+                state.xBreak = journal.getDouble();
+                state.centerBreakX = journal.getDouble();
+                state.time = journal.getLong();
+                state.hitTime = journal.getLong();
+                SaveFile.unpackFlags(state, journal.getInt());
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package brickGame.Model.save;
+
+import brickGame.Model.BlockStore;
+import brickGame.Model.GameState;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps the game's save slots and a small index describing them.
+ * Each slot is a {@link SaveFile} snapshot (plus its {@link SaveJournal}, in journaled mode) named
+ * "slot-N.brk" in the save directory. The index file lists every slot's level, score, hearts, save time and
+ * a hash of its board, so menus can show the slots without reading the saves themselves. If the index is
+ * missing or damaged it is rebuilt from the slot files.
+ * <p>
+ * This is the single place saves are loaded from: saves written before slots existed are imported into the
+ * first slot the first time the manager finds no slots.
+ */
+public class SaveSlotManager {
+
+    private static final Logger LOGGER = Logger.getLogger(SaveSlotManager.class.getName());
+
+    public static final int SLOT_COUNT = 8;
+
+    // Index file format
+    static final int MAGIC = 0x494B5242; // "BRKI" when read as little-endian bytes
+    static final byte VERSION = 1;
+    private static final int ENTRY_BYTES = 1 + 4 + 4 + 4 + 8 + 4;
+    private static final String INDEX_FILE_NAME = "index.bin";
+
+    // Saves from before slots existed, newest format first
+    private static final String[] LEGACY_FILE_NAMES = {"save.brk", "save.mdds"};
+
+    /**
+     * Describes the contents of a save slot.
+     */
+    public static class SlotInfo {
+        public int slot;
+        public int level;
+        public int score;
+        public int heart;
+        public long savedAt; // Wall-clock time of the save, in milliseconds
+        public int thumbnailHash; // Hash of the remaining blocks, identifies the board's picture
+    }
+
+    private final File directory;
+    private final SaveWriter writer;
+    private final TreeMap<Integer, SlotInfo> index = new TreeMap<>(); // Guarded by this
+
+    /**
+     * Creates a manager for the slots in a directory, reading its index or rebuilding it if needed.
+     *
+     * @param directory The save directory.
+     * @param writer    The writer that does the file work.
+     */
+    public SaveSlotManager(File directory, SaveWriter writer) {
+        this.directory = directory;
+        this.writer = writer;
+        if (!readIndex()) {
+            rebuildIndex();
+        }
+        if (index.isEmpty()) {
+            importLegacySave();
+        }
+    }
+
+    /**
+     * Gets the snapshot file of a slot.
+     *
+     * @param slot The slot number, from 1 to SLOT_COUNT.
+     * @return The slot's file.
+     */
+    public File slotFile(int slot) {
+        return new File(directory, "slot-" + slot + ".brk");
+    }
+
+    /**
+     * Lists the slots that hold a save, in slot order.
+     *
+     * @return Descriptions of the used slots.
+     */
+    public synchronized List<SlotInfo> list() {
+        return new ArrayList<>(index.values());
+    }
+
+    /**
+     * Picks the slot for a new game: the first empty slot, or the one saved longest ago if all are used.
+     *
+     * @return The slot number.
+     */
+    public synchronized int nextFreeSlot() {
+        for (int slot = 1; slot <= SLOT_COUNT; slot++) {
+            if (!index.containsKey(slot)) {
+                return slot;
+            }
+        }
+        return index.values().stream().min(Comparator.comparingLong(info -> info.savedAt)).get().slot;
+    }
+
+    /**
+     * Saves a state to a slot. Must be called at a step boundary; the file work is done by the writer.
+     *
+     * @param slot        The slot to save to.
+     * @param state       The state to save.
+     * @param requestedAt System.nanoTime() when the save was requested, used for the latency measurement.
+     * @throws IOException if the state cannot be encoded.
+     */
+    public void save(int slot, GameState state, long requestedAt) throws IOException {
+        writer.submit(SaveFile.encode(state), slotFile(slot), requestedAt);
+        recordSlot(slot, state);
+    }
+
+    /**
+     * Updates a slot's index entry from the state that has just been saved to it, e.g. by a {@link SaveJournal}.
+     * Must be called at a step boundary.
+     *
+     * @param slot  The slot that was saved.
+     * @param state The state that was saved.
+     */
+    public void recordSlot(int slot, GameState state) {
+        SlotInfo info = describe(slot, state);
+        synchronized (this) {
+            index.put(slot, info);
+        }
+        writer.execute("writing the save index", this::writeIndex);
+    }
+
+    /**
+     * Loads a slot into a state, replaying its journal if it has one.
+     *
+     * @param slot  The slot to load.
+     * @param state The state to load into.
+     * @throws IOException if the slot cannot be read.
+     */
+    public void load(int slot, GameState state) throws IOException {
+        SaveJournal.load(slotFile(slot), state);
+    }
+
+    /**
+     * Builds the index entry describing a state.
+     *
+     * @param slot  The slot the state is saved in.
+     * @param state The state.
+     * @return The index entry.
+     */
+    private static SlotInfo describe(int slot, GameState state) {
+        SlotInfo info = new SlotInfo();
+        info.slot = slot;
+        info.level = state.level;
+        info.score = state.score;
+        info.heart = state.heart;
+        info.savedAt = System.currentTimeMillis();
+
+        CRC32 crc = new CRC32();
+        BlockStore blocks = state.blocks;
+        for (int i = blocks.nextLive(0); i >= 0; i = blocks.nextLive(i + 1)) {
+            crc.update(blocks.getRow(i));
+            crc.update(blocks.getColumn(i));
+            crc.update(blocks.getType(i));
+            int color = blocks.getColor(i);
+            crc.update(color >>> 24);
+            crc.update(color >>> 16);
+            crc.update(color >>> 8);
+            crc.update(color);
+        }
+        info.thumbnailHash = (int) crc.getValue();
+        return info;
+    }
+
+    /**
+     * Reads the index file.
+     *
+     * @return true if the index was read, false if it is missing or damaged.
+     */
+    private synchronized boolean readIndex() {
+        File file = new File(directory, INDEX_FILE_NAME);
+        if (!file.exists()) {
+            return false;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath())).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                return false;
+            }
+            int count = buffer.getShort();
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, buffer.position() + count * ENTRY_BYTES);
+            if (buffer.getInt(buffer.position() + count * ENTRY_BYTES) != (int) crc.getValue()) {
+                return false;
+            }
+
+            index.clear();
+            for (int i = 0; i < count; i++) {
+                SlotInfo info = new SlotInfo();
+                info.slot = buffer.get();
+                info.level = buffer.getInt();
+                info.score = buffer.getInt();
+                info.heart = buffer.getInt();
+                info.savedAt = buffer.getLong();
+                info.thumbnailHash = buffer.getInt();
+                if (slotFile(info.slot).exists()) {
+                    index.put(info.slot, info);
+                }
+            }
+            return true;
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            LOGGER.warning("Save index is unreadable, rebuilding it: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Writes the index file. Only called on the writer thread.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    private void writeIndex() throws IOException {
+        ByteBuffer buffer;
+        synchronized (this) {
+            buffer = ByteBuffer.allocate(4 + 1 + 2 + index.size() * ENTRY_BYTES + 4).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).put(VERSION).putShort((short) index.size());
+            for (SlotInfo info : index.values()) {
+                buffer.put((byte) info.slot).putInt(info.level).putInt(info.score).putInt(info.heart);
+                buffer.putLong(info.savedAt).putInt(info.thumbnailHash);
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+        SaveFile.writeAtomically(buffer, new File(directory, INDEX_FILE_NAME));
+    }
+
+    /**
+     * Rebuilds the index by reading every slot file. Slow, but only needed when the index is lost.
+     */
+    private void rebuildIndex() {
+        synchronized (this) {
+            index.clear();
+            for (int slot = 1; slot <= SLOT_COUNT; slot++) {
+                File file = slotFile(slot);
+                if (!file.exists()) {
+                    continue;
+                }
+                try {
+                    GameState state = new GameState();
+                    SaveJournal.load(file, state);
+                    SlotInfo info = describe(slot, state);
+                    info.savedAt = file.lastModified();
+                    index.put(slot, info);
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Skipping unreadable save slot " + file.getPath(), e);
+                }
+            }
+        }
+        writer.execute("writing the save index", this::writeIndex);
+    }
+
+    /**
+     * Copies a save written before slots existed into the first slot, leaving the old file in place.
+     */
+    private void importLegacySave() {
+        for (String name : LEGACY_FILE_NAMES) {
+            File legacy = new File(directory, name);
+            if (!legacy.exists()) {
+                continue;
+            }
+            try {
+                GameState state = new GameState();
+                SaveFile.read(legacy, state);
+                SaveFile.write(state, slotFile(1));
+                SlotInfo info = describe(1, state);
+                info.savedAt = legacy.lastModified();
+                synchronized (this) {
+                    index.put(1, info);
+                }
+                writer.execute("writing the save index", this::writeIndex);
+                LOGGER.info("Imported " + legacy.getPath() + " into save slot 1");
+                return;
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Could not import old save " + legacy.getPath(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package brickGame.Model.save;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes encoded saves to disk on a single background thread.
+ * The caller takes the snapshot (see {@link SaveFile#encode}) and hands it over; writes happen one at a time
+ * in submission order, each through {@link SaveFile#writeAtomically}, so the caller never waits on the disk.
+ * Other file work, such as appending to a {@link SaveJournal}, can be queued on the same thread to keep its order.
+ * The time from snapshot to the save being on disk is measured for every write.
+ */
+public class SaveWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(SaveWriter.class.getName());
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SaveWriter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Latency statistics, only updated on the writer thread
+    private long writes = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+
+    /**
+     * A piece of file work run on the writer thread.
+     */
+    public interface IoAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * Queues file work to run on the writer thread after everything submitted before it.
+     *
+     * @param description What the work does, used in error messages.
+     * @param action      The work to run.
+     */
+    public void execute(String description, IoAction action) {
+        executor.execute(() -> {
+            try {
+                action.run();
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Error while " + description, e);
+            }
+        });
+    }
+
+    /**
+     * Queues an encoded save to be written.
+     *
+     * @param snapshot   The encoded save; it must not be modified afterwards.
+     * @param file       The file to write.
+     * @param snapshotAt System.nanoTime() when the snapshot was requested, used for the latency measurement.
+     */
+    public void submit(ByteBuffer snapshot, File file, long snapshotAt) {
+        executor.execute(() -> {
+            long writeStart = System.nanoTime();
+            try {
+                SaveFile.writeAtomically(snapshot, file);
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Error saving game", e);
+                return;
+            }
+            long done = System.nanoTime();
+            writes++;
+            totalNanos += done - snapshotAt;
+            maxNanos = Math.max(maxNanos, done - snapshotAt);
+            LOGGER.info(String.format("Game saved to %s in %.2f ms (%.2f ms writing, %d bytes)",
+                    file.getPath(), (done - snapshotAt) / 1e6, (done - writeStart) / 1e6, snapshot.remaining()));
+        });
+    }
+
+    /**
+     * Builds a summary of the save latency so far.
+     *
+     * @return The summary.
+     */
+    public String report() {
+        try {
+            return executor.submit(() -> String.format("SaveWriter: %d saves, latency avg %.2f ms, max %.2f ms",
+                    writes, writes == 0 ? 0 : totalNanos / 1e6 / writes, maxNanos / 1e6)).get();
+        } catch (Exception e) {
+            return "SaveWriter: unavailable";
+        }
+    }
+
+    /**
+     * Finishes the queued writes and stops the writer thread.
+     *
+     * @param timeoutMillis How long to wait for queued writes to finish.
+     */
+    public void shutdown(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                LOGGER.warning("Save writer did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
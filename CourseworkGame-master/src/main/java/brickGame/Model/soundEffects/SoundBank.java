@@ -0,0 +1,181 @@
+package brickGame.Model.soundEffects;
+
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+/**
+ * Bank of preloaded sound effect players.
+ * Every clip is opened once, into a fixed number of reusable players ("voices"), so playing a sound only
+ * rewinds and starts a player that is already prepared. When all voices of a clip are busy, the one that
+ * started longest ago is cut off and reused. The bank also measures how long each play request takes to
+ * become audible.
+ */
+public class SoundBank {
+
+    private static final Logger LOGGER = Logger.getLogger(SoundBank.class.getName());
+
+    // Sound effect clips and the number of voices each may play at once
+    public static final String HOVER = "/soundFX/hoverSound.mp3";
+    public static final String BONUS = "/soundFX/minikit.mp3";
+    public static final String MINUS_HEART = "/soundFX/oof.mp3";
+    public static final String ADD_HEART = "/soundFX/ting.mp3";
+    private static final Object[][] CLIPS = {
+            {HOVER, 1}, {BONUS, 3}, {MINUS_HEART, 2}, {ADD_HEART, 2}
+    };
+
+    /**
+     * The voices and statistics of a single clip.
+     */
+    private static final class Clip {
+        final String path;
+        final MediaPlayer[] voices;
+        final long[] startedAt; // When each voice was last started, 0 while it is idle
+        final long[] requestedAt; // When the play that is waiting for each voice to start was requested, 0 if none
+        long plays;
+        long steals;
+        long latencyCount;
+        long latencyTotalNanos;
+        long latencyMaxNanos;
+
+        Clip(String path, int voiceCount) {
+            this.path = path;
+            this.voices = new MediaPlayer[voiceCount];
+            this.startedAt = new long[voiceCount];
+            this.requestedAt = new long[voiceCount];
+        }
+
+        /**
+         * Records the time between a play request and the voice actually playing.
+         *
+         * @param nanos The measured latency.
+         */
+        void recordLatency(long nanos) {
+            latencyCount++;
+            latencyTotalNanos += nanos;
+            latencyMaxNanos = Math.max(latencyMaxNanos, nanos);
+        }
+    }
+
+    private static final Map<String, Clip> clips = new LinkedHashMap<>();
+    private static boolean loaded = false;
+
+    private SoundBank() {
+    }
+
+    /**
+     * Opens every sound effect clip into its voices so they are ready before the first play.
+     * Must be called on the JavaFX thread; calling it again has no effect.
+     */
+    public static void preload() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        for (Object[] entry : CLIPS) {
+            String path = (String) entry[0];
+            URL resource = SoundBank.class.getResource(path);
+            if (resource == null) {
+                LOGGER.log(Level.SEVERE, "Sound file not found: " + path);
+                continue;
+            }
+            try {
+                Media media = new Media(resource.toExternalForm());
+                Clip clip = new Clip(path, (Integer) entry[1]);
+                for (int i = 0; i < clip.voices.length; i++) {
+                    clip.voices[i] = createVoice(clip, i, media);
+                }
+                clips.put(path, clip);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Exception loading sound " + path, e);
+            }
+        }
+    }
+
+    /**
+     * Creates one voice of a clip and hooks up its bookkeeping.
+     *
+     * @param clip  The clip the voice belongs to.
+     * @param voice The index of the voice.
+     * @param media The clip's media.
+     * @return The prepared player.
+     */
+    private static MediaPlayer createVoice(Clip clip, int voice, Media media) {
+        MediaPlayer player = new MediaPlayer(media);
+        player.setOnError(() -> LOGGER.log(Level.SEVERE, "Error in MediaPlayer: " + player.getError().getMessage()));
+        player.setOnEndOfMedia(() -> {
+            player.stop(); // Rewinds the voice so it is ready for the next play
+            clip.startedAt[voice] = 0;
+        });
+        player.statusProperty().addListener((observable, oldStatus, newStatus) -> {
+            if (newStatus == MediaPlayer.Status.PLAYING && clip.requestedAt[voice] != 0) {
+                clip.recordLatency(System.nanoTime() - clip.requestedAt[voice]);
+                clip.requestedAt[voice] = 0;
+            }
+        });
+        return player;
+    }
+
+    /**
+     * Plays a clip on a free voice, or on the oldest busy voice if all are in use.
+     * May be called from any thread.
+     *
+     * @param path The resource path of the clip, one of the constants of this class.
+     */
+    public static void play(String path) {
+        long requested = System.nanoTime();
+        Platform.runLater(() -> {
+            Clip clip = clips.get(path);
+            if (clip == null) {
+                LOGGER.log(Level.WARNING, "Sound not loaded: " + path);
+                return;
+            }
+
+            int voice = 0;
+            for (int i = 0; i < clip.voices.length; i++) {
+                if (clip.startedAt[i] == 0) {
+                    voice = i;
+                    break;
+                }
+                if (clip.startedAt[i] < clip.startedAt[voice]) {
+                    voice = i;
+                }
+            }
+
+            MediaPlayer player = clip.voices[voice];
+            clip.plays++;
+            if (clip.startedAt[voice] != 0) {
+                // Voice stealing: the player is already playing, so rewinding restarts it without a status change
+                clip.steals++;
+                player.seek(Duration.ZERO);
+                clip.recordLatency(System.nanoTime() - requested);
+            } else {
+                clip.requestedAt[voice] = requested;
+                player.play();
+            }
+            clip.startedAt[voice] = System.nanoTime();
+        });
+    }
+
+    /**
+     * Builds a summary of plays, stolen voices and play latency for every clip.
+     *
+     * @return The summary, one line per clip.
+     */
+    public static String report() {
+        StringBuilder builder = new StringBuilder("SoundBank:");
+        for (Clip clip : clips.values()) {
+            double averageMs = clip.latencyCount == 0 ? 0 : clip.latencyTotalNanos / 1e6 / clip.latencyCount;
+            builder.append(String.format("%n  %s: %d plays, %d stolen, latency avg %.1f ms, max %.1f ms",
+                    clip.path, clip.plays, clip.steals, averageMs, clip.latencyMaxNanos / 1e6));
+        }
+        return builder.toString();
+    }
+}
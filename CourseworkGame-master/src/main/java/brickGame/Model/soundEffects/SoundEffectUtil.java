@@ -4,14 +4,13 @@ import java.net.URL;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javafx.application.Platform;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
 /**
  * Utility class for managing sound effects and background music in the game.
  * It provides methods to play various sound effects, manage the mute state,
- * and control background music playback.
+ * and control background music playback. Sound effects are played from the preloaded {@link SoundBank}.
  */
 public class SoundEffectUtil {
 
@@ -20,8 +19,7 @@ public class SoundEffectUtil {
     // Boolean flag to manage the mute state of the sound effects.
     private static boolean isMuted = false;
 
-    // MediaPlayer instances for different sound effects and background music.
-    private static MediaPlayer hoverSoundPlayer;
+    // MediaPlayer for the background music; sound effects are played through the SoundBank.
     private static MediaPlayer backgroundMediaPlayer;
 
     /**
@@ -48,21 +46,7 @@ public class SoundEffectUtil {
     public static void playAddHeartSoundEffect() {
         if (isMuted) return; // Check mute state
 
-        try {
-            URL resource = SoundEffectUtil.class.getResource("/soundFX/ting.mp3");
-            if (resource == null) {
-                LOGGER.log(Level.SEVERE, "Sound file not found: /ting.mp3");
-                return;
-            }
-            Media sound = new Media(resource.toExternalForm());
-            MediaPlayer mediaPlayer = new MediaPlayer(sound);
-
-            mediaPlayer.setOnError(() -> LOGGER.log(Level.SEVERE, "Error in MediaPlayer: " + mediaPlayer.getError().getMessage()));
-
-            mediaPlayer.setOnReady(() -> mediaPlayer.play());
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Exception in playAddHeartSoundEffect method", e);
-        }
+        SoundBank.play(SoundBank.ADD_HEART);
     }
 
     /**
@@ -72,30 +56,7 @@ public class SoundEffectUtil {
     public static void playMinusHeartSoundEffect() {
         if (isMuted) return; // Check mute state
 
-        Platform.runLater(() -> {
-            try {
-                URL resource = SoundEffectUtil.class.getResource("/soundFX/oof.mp3");
-                if (resource == null) {
-                    LOGGER.log(Level.SEVERE, "Sound file not found: /oof.mp3");
-                    return;
-                }
-                Media sound = new Media(resource.toExternalForm());
-                MediaPlayer mediaPlayer = new MediaPlayer(sound);
-
-                mediaPlayer.setOnError(() -> LOGGER.log(Level.SEVERE, "Error in MediaPlayer: " + mediaPlayer.getError().getMessage()));
-
-                mediaPlayer.setOnReady(() -> {
-                    if (mediaPlayer.getStatus() == MediaPlayer.Status.READY) {
-                        mediaPlayer.play();
-                    }
-                });
-
-                mediaPlayer.setOnEndOfMedia(() -> mediaPlayer.dispose()); // Dispose the player after playing
-
-            } catch (Exception e) {
-                LOGGER.log(Level.SEVERE, "Exception in playMinusHeartSoundEffect method", e);
-            }
-        });
+        SoundBank.play(SoundBank.MINUS_HEART);
     }
 
     /**
@@ -105,50 +66,7 @@ public class SoundEffectUtil {
     public static void playBonusSoundEffect() {
         if (isMuted) return; // Check mute state
 
-        Platform.runLater(() -> {
-            try {
-                URL resource = SoundEffectUtil.class.getResource("/soundFX/minikit.mp3");
-                if (resource == null) {
-                    LOGGER.log(Level.SEVERE, "Sound file not found: /minikit.mp3");
-                    return;
-                }
-                Media sound = new Media(resource.toExternalForm());
-                MediaPlayer mediaPlayer = new MediaPlayer(sound);
-
-                mediaPlayer.setOnError(() -> LOGGER.log(Level.SEVERE, "Error in MediaPlayer: " + mediaPlayer.getError().getMessage()));
-
-                mediaPlayer.setOnReady(() -> {
-                    if (mediaPlayer.getStatus() == MediaPlayer.Status.READY) {
-                        mediaPlayer.play();
-                    }
-                });
-
-                mediaPlayer.setOnEndOfMedia(() -> mediaPlayer.dispose()); // Dispose the player after playing
-
-            } catch (Exception e) {
-                LOGGER.log(Level.SEVERE, "Exception in playBonusSoundEffect method", e);
-            }
-        });
-    }
-
-    /**
-     * Initializes the MediaPlayer for the hover sound effect.
-     * This static block loads the hover sound resource and prepares the MediaPlayer for playback.
-     * It sets up the MediaPlayer to handle the hover sound effect used in the game.
-     */
-    static {
-        try {
-            URL resource = SoundEffectUtil.class.getResource("/soundFX/hoverSound.mp3");
-            if (resource == null) {
-                LOGGER.log(Level.SEVERE, "Sound file not found: /hoverSound.mp3");
-            } else {
-                hoverSoundPlayer = new MediaPlayer(new Media(resource.toExternalForm()));
-                hoverSoundPlayer.setOnError(() -> LOGGER.log(Level.SEVERE, "Error in MediaPlayer: " + hoverSoundPlayer.getError().getMessage()));
-                hoverSoundPlayer.setVolume(1.0);
-            }
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Exception in static initializer for hoverSoundPlayer", e);
-        }
+        SoundBank.play(SoundBank.BONUS);
     }
 
     /**
@@ -157,17 +75,9 @@ public class SoundEffectUtil {
      * providing an auditory feedback for the user interaction.
      */
     public static void playHoverSound() {
-        if (hoverSoundPlayer == null) {
-            LOGGER.log(Level.SEVERE, "Hover sound player not initialized");
-            return;
-        }
-
         if (isMuted) return; // Check mute state
 
-        Platform.runLater(() -> {
-            hoverSoundPlayer.stop(); // Stop any currently playing sound
-            hoverSoundPlayer.play(); // Play the sound
-        });
+        SoundBank.play(SoundBank.HOVER); // A single voice, so a new hover restarts the sound
     }
 
     /**
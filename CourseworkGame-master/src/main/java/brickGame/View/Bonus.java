@@ -1,75 +1,54 @@
 package brickGame.View;
 
-import brickGame.Model.Block;
-import javafx.scene.image.Image;
-import javafx.scene.paint.ImagePattern;
+import brickGame.Model.BonusDrop;
+import brickGame.View.assets.AssetCache;
 import javafx.scene.shape.Rectangle;
-import java.io.Serializable;
-import java.util.Random;
 
 /**
  * Represents a bonus object in the brick game, visually represented by a rectangle.
- * Bonuses are spawned in specific grid locations and can be collected by the player.
- * This class is responsible for initializing and managing the properties of each bonus,
- * such as its size, position, and the image it displays.
+ * The bonus's position and state live in a {@link BonusDrop} advanced by the simulation and are
+ * delivered to the view through frame snapshots; this class is responsible for its graphical
+ * representation, such as its size, position, and the image it displays.
  */
-public class Bonus implements Serializable {
-    // Constants for the size of the bonus and the offset in positioning
-    private static final int CHOCO_SIZE = 30;
-    private static final int OFFSET = 15;
-
-    // Static random number generator for random image selection
-    private static final Random rand = new Random();
-
+public class Bonus {
     // The graphical representation of the bonus
     public Rectangle choco;
 
-    // Positional attributes for the bonus
-    public double x;
-    public double y;
-
-    // Time when the bonus was created
-    public long timeCreated;
-
-    // Flag to check if the bonus has been taken
-    public boolean taken = false;
-
     /**
-     * Constructs a new Bonus object at a specified location on the game grid.
-     * Initializes the bonus's position based on the given row and column, and
-     * creates its visual representation.
+     * Constructs the view of a bonus released by the simulation and creates its visual representation.
      *
-     * @param row    The row in the game grid where the bonus is located.
-     * @param column The column in the game grid where the bonus is located.
+     * @param x       The x-coordinate of the bonus's top-left corner.
+     * @param y       The y-coordinate of the bonus's top-left corner.
+     * @param variant Which of the bonus images to show, as chosen by the simulation.
      */
-    public Bonus(int row, int column) {
-        // Calculate the position of the bonus based on the row and column
-        x = (column * Block.getWidth()) + Block.getPaddingH() + (Block.getWidth() / 2.0) - OFFSET;
-        y = (row * Block.getHeight()) + Block.getPaddingTop() + (Block.getHeight() / 2.0) - OFFSET;
-
+    public Bonus(double x, double y, int variant) {
         // Call the method to draw the bonus
-        draw();
+        draw(x, y, variant);
     }
 
     /**
      * Initializes and draws the graphical representation of the bonus.
      * This method sets up the rectangle that represents the bonus, determines its
-     * size, position, and randomly selects an image to display.
+     * size, position, and the image to display.
+     *
+     * @param x       The x-coordinate of the bonus's top-left corner.
+     * @param y       The y-coordinate of the bonus's top-left corner.
+     * @param variant Which of the bonus images to show.
      */
-    private void draw() {
+    private void draw(double x, double y, int variant) {
         // Initialize the rectangle representing the bonus
         choco = new Rectangle();
-        choco.setWidth(CHOCO_SIZE);
-        choco.setHeight(CHOCO_SIZE);
+        choco.setWidth(BonusDrop.SIZE);
+        choco.setHeight(BonusDrop.SIZE);
         choco.setX(x);
         choco.setY(y);
 
-        // Select a random image for the bonus
-        String url = rand.nextInt(20) % 2 == 0 ? "bonus1.png" : "bonus2.png";
+        // Select the image picked by the simulation for this bonus
+        String url = variant == 0 ? "bonus1.png" : "bonus2.png";
 
         // Set the image of the bonus, handling any errors in image loading
         try {
-            choco.setFill(new ImagePattern(new Image(url)));
+            choco.setFill(AssetCache.getPattern(url));
         } catch (IllegalArgumentException e) {
             System.err.println("Error loading image: " + url);
         }
@@ -0,0 +1,58 @@
+package brickGame.View;
+
+import javafx.application.Platform;
+
+/**
+ * Keeps scene-graph work on the JavaFX application thread.
+ * Code that mutates nodes calls {@link #check(String)}; in debug mode a call from any other thread fails straight away
+ * with the name of the offending thread, instead of corrupting the scene graph later in some unrelated place.
+ * Debug mode is on when the JVM runs with assertions enabled (-ea), or when turned on with {@link #setChecksEnabled(boolean)}.
+ */
+public class FxThread {
+
+    private static volatile boolean checksEnabled = FxThread.class.desiredAssertionStatus();
+
+    /**
+     * Turns the thread confinement checks on or off.
+     *
+     * @param enabled True to fail on node access from other threads, false to skip the checks.
+     */
+    public static void setChecksEnabled(boolean enabled) {
+        checksEnabled = enabled;
+    }
+
+    /**
+     * Checks whether the thread confinement checks are on.
+     *
+     * @return True if debug mode is on.
+     */
+    public static boolean isChecksEnabled() {
+        return checksEnabled;
+    }
+
+    /**
+     * Asserts that the caller is on the JavaFX application thread. Does nothing unless debug mode is on.
+     *
+     * @param what Description of the node work being done, used in the error message.
+     * @throws IllegalStateException in debug mode, if called from any other thread.
+     */
+    public static void check(String what) {
+        if (checksEnabled && !Platform.isFxApplicationThread()) {
+            throw new IllegalStateException(what + " must run on the JavaFX thread, not on " + Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * Runs scene-graph work on the JavaFX thread: straight away if already on it, otherwise on a later pulse.
+     * Running inline keeps work issued while applying a batch of render commands inside that same batch.
+     *
+     * @param task The work to run.
+     */
+    public static void run(Runnable task) {
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+    }
+}
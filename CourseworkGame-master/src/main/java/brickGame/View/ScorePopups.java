@@ -0,0 +1,208 @@
+package brickGame.View;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Shows the short-lived popups used for scores and messages from a fixed pool of reusable labels.
+ * At most {@link #POOL_SIZE} popups are on screen at once; when the pool is exhausted the oldest popup
+ * is recycled. All popups are animated by one shared driver, and score popups that appear at the same
+ * spot while an earlier one is still showing are merged into a single running total.
+ * Popups may be requested from any thread; they are applied on the JavaFX thread on its next pulse.
+ */
+public class ScorePopups {
+
+    static final int POOL_SIZE = 16; // Maximum number of popups on screen at once
+    private static final long LIFETIME_NANOS = 300_000_000L; // How long a popup grows and fades
+    private static final double MAX_SCALE_GROWTH = 2.0; // Scale reached at the end, on top of the initial 1
+    private static final double FADE_DIVISOR = 2.1; // Opacity is 1 - scale / FADE_DIVISOR
+    private static final double MERGE_DISTANCE = 20; // Score popups closer than this are merged
+
+    /**
+     * A popup that has been requested but not yet shown.
+     */
+    private static final class Request {
+        final Pane root; // The pane to show the popup in
+        final double x;
+        final double y;
+        final int score;
+        final String message; // null for score popups
+
+        Request(Pane root, double x, double y, int score, String message) {
+            this.root = root;
+            this.x = x;
+            this.y = y;
+            this.score = score;
+            this.message = message;
+        }
+    }
+
+    private static final Queue<Request> requests = new ConcurrentLinkedQueue<>();
+    private static final Label[] labels = new Label[POOL_SIZE];
+    private static final long[] startedAt = new long[POOL_SIZE]; // Pulse time the popup (re)started, 0 if free
+    private static final int[] totals = new int[POOL_SIZE]; // Running score total of each score popup
+    private static final boolean[] isScore = new boolean[POOL_SIZE];
+    private static AnimationTimer driver;
+    private static boolean driverRequested = false;
+
+    private ScorePopups() {
+    }
+
+    /**
+     * Requests a score popup such as "+3" at the given position.
+     *
+     * @param root  The pane to show the popup in.
+     * @param x     The x-coordinate of the popup.
+     * @param y     The y-coordinate of the popup.
+     * @param score The points to show.
+     */
+    public static void showScore(Pane root, double x, double y, int score) {
+        request(new Request(root, x, y, score, null));
+    }
+
+    /**
+     * Requests a text popup at the given position.
+     *
+     * @param root    The pane to show the popup in.
+     * @param x       The x-coordinate of the popup.
+     * @param y       The y-coordinate of the popup.
+     * @param message The text to show.
+     */
+    public static void showMessage(Pane root, double x, double y, String message) {
+        request(new Request(root, x, y, 0, message));
+    }
+
+    /**
+     * Queues a popup and makes sure the shared driver is running.
+     *
+     * @param request The popup to show.
+     */
+    private static void request(Request request) {
+        requests.add(request);
+        synchronized (ScorePopups.class) {
+            if (driverRequested) {
+                return;
+            }
+            driverRequested = true;
+        }
+        // The driver must be created and started on the JavaFX thread
+        Platform.runLater(() -> {
+            driver = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    pulse(now);
+                }
+            };
+            driver.start();
+        });
+    }
+
+    /**
+     * Shows the queued popups and advances every active one. Runs on the JavaFX thread once per pulse.
+     *
+     * @param now The time of the pulse in nanoseconds.
+     */
+    private static void pulse(long now) {
+        Request request;
+        while ((request = requests.poll()) != null) {
+            place(request, now);
+        }
+
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (startedAt[i] == 0) {
+                continue;
+            }
+            long age = now - startedAt[i];
+            Label label = labels[i];
+            if (age >= LIFETIME_NANOS) {
+                startedAt[i] = 0;
+                label.setVisible(false);
+                continue;
+            }
+            double scale = 1 + MAX_SCALE_GROWTH * age / LIFETIME_NANOS;
+            label.setScaleX(scale);
+            label.setScaleY(scale);
+            label.setOpacity(Math.max(0, 1 - scale / FADE_DIVISOR));
+        }
+    }
+
+    /**
+     * Puts a requested popup on screen, merging it into a nearby score popup or taking a pool slot for it.
+     *
+     * @param request The popup to show.
+     * @param now     The time of the current pulse in nanoseconds.
+     */
+    private static void place(Request request, long now) {
+        Pane root = request.root;
+        int slot = request.message == null ? findMergeable(root, request) : -1;
+        if (slot >= 0) {
+            totals[slot] += request.score;
+        } else {
+            slot = acquire();
+            isScore[slot] = request.message == null;
+            totals[slot] = request.score;
+        }
+
+        Label label = labels[slot];
+        if (label == null) {
+            label = new Label();
+            label.setMouseTransparent(true);
+            labels[slot] = label;
+        }
+        if (label.getParent() != root) {
+            root.getChildren().add(label); // First use of the slot; the label then stays in the game's root
+        } else {
+            label.toFront();
+        }
+
+        label.setText(isScore[slot] ? (totals[slot] >= 0 ? "+" : "") + totals[slot] : request.message);
+        label.setTranslateX(request.x);
+        label.setTranslateY(request.y);
+        label.setScaleX(1);
+        label.setScaleY(1);
+        label.setOpacity(1);
+        label.setVisible(true);
+        startedAt[slot] = now;
+    }
+
+    /**
+     * Finds an active score popup close enough to a new score to absorb it.
+     *
+     * @param root    The pane the new popup is shown in.
+     * @param request The new score popup.
+     * @return The slot of the popup to merge into, or -1 if there is none.
+     */
+    private static int findMergeable(Pane root, Request request) {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            Label label = labels[i];
+            if (startedAt[i] != 0 && isScore[i] && label.getParent() == root
+                    && Math.abs(label.getTranslateX() - request.x) < MERGE_DISTANCE
+                    && Math.abs(label.getTranslateY() - request.y) < MERGE_DISTANCE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Takes a free pool slot, or the one holding the oldest popup if all are in use.
+     *
+     * @return The slot to use.
+     */
+    private static int acquire() {
+        int oldest = 0;
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (startedAt[i] == 0) {
+                return i;
+            }
+            if (startedAt[i] < startedAt[oldest]) {
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+}
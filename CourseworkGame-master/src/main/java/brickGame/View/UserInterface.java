@@ -1,10 +1,16 @@
 package brickGame.View;
 
+import brickGame.Model.save.SaveSlotManager.SlotInfo;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.geometry.Pos;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.function.IntConsumer;
 
 /**
  * Provides utility functions for creating user interface elements in the game.
@@ -62,4 +68,55 @@ public class UserInterface {
 
         return startMenuVBox;
     }
+
+    /**
+     * Creates and returns a VBox listing the saved games, one button per used save slot, and a back button.
+     * Picking a slot or going back removes the menu from its parent before running the action.
+     *
+     * @param slots  The used save slots, as described by the save index.
+     * @param onPick The action to run with the number of the slot picked.
+     * @param onBack The action to run when the player goes back without picking a slot.
+     * @return A VBox containing the slot menu elements.
+     */
+    public static VBox createSlotMenu(List<SlotInfo> slots, IntConsumer onPick, Runnable onBack) {
+        VBox slotMenuVBox = new VBox(10);
+        slotMenuVBox.setAlignment(Pos.CENTER);
+
+        Label title = new Label(slots.isEmpty() ? "No saved games" : "Load Game");
+        title.setId("pauseLabel"); // Same look as the pause menu title
+        slotMenuVBox.getChildren().add(title);
+
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+        for (SlotInfo info : slots) {
+            Button slotButton = new Button("Slot " + info.slot + ":  Level " + info.level + ",  Score " + info.score
+                    + ",  Hearts " + info.heart + "  (" + dateFormat.format(new Date(info.savedAt)) + ")");
+            slotButton.setPrefWidth(400);
+            slotButton.setOnAction(e -> {
+                removeFromParent(slotMenuVBox);
+                onPick.accept(info.slot);
+            });
+            slotMenuVBox.getChildren().add(slotButton);
+        }
+
+        Button backButton = new Button("Back");
+        backButton.setPrefWidth(200);
+        backButton.setOnAction(e -> {
+            removeFromParent(slotMenuVBox);
+            onBack.run();
+        });
+        slotMenuVBox.getChildren().add(backButton);
+
+        return slotMenuVBox;
+    }
+
+    /**
+     * Removes a menu from the pane it was added to.
+     *
+     * @param menu The menu to remove.
+     */
+    private static void removeFromParent(VBox menu) {
+        if (menu.getParent() instanceof Pane) {
+            ((Pane) menu.getParent()).getChildren().remove(menu);
+        }
+    }
 }
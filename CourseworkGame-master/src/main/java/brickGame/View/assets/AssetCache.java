@@ -0,0 +1,152 @@
+package brickGame.View.assets;
+
+import javafx.scene.image.Image;
+import javafx.scene.paint.ImagePattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Central cache for the game's images and image patterns.
+ * Every resource is decoded at most once and the same {@link Image} and {@link ImagePattern}
+ * instances are shared by every view that draws it. The common assets can be preloaded on a
+ * background thread at startup so the first frames never wait on decoding.
+ */
+public class AssetCache {
+
+    private static final Logger LOGGER = Logger.getLogger(AssetCache.class.getName());
+
+    // Images drawn by the game, decoded up front by preload()
+    private static final String[] PRELOAD_IMAGES = {
+            "ball.png", "goldball.png", "block.png", "bonus1.png", "bonus2.png",
+            "choco.jpg", "heart.jpg", "star.jpg"
+    };
+
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+    private static final Map<String, ImagePattern> patterns = new ConcurrentHashMap<>();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static volatile Thread preloader;
+
+    private AssetCache() {
+    }
+
+    /**
+     * Starts decoding the game's common images on a background daemon thread.
+     * Calling this more than once has no further effect.
+     */
+    public static synchronized void preload() {
+        if (preloader != null) {
+            return;
+        }
+        preloader = new Thread(() -> {
+            long start = System.nanoTime();
+            for (String path : PRELOAD_IMAGES) {
+                getPattern(path);
+            }
+            LOGGER.info("Preloaded " + PRELOAD_IMAGES.length + " images in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }, "AssetPreloader");
+        preloader.setDaemon(true);
+        preloader.start();
+    }
+
+    /**
+     * Gets an image at its natural size, decoding it on first use.
+     *
+     * @param path The resource path of the image.
+     * @return The shared image.
+     */
+    public static Image getImage(String path) {
+        return lookup(path, () -> new Image(path));
+    }
+
+    /**
+     * Gets an image scaled to fit the given size while keeping its aspect ratio, decoding it on first use.
+     *
+     * @param path   The resource path of the image.
+     * @param width  The width to fit the image into.
+     * @param height The height to fit the image into.
+     * @return The shared image.
+     */
+    public static Image getImage(String path, double width, double height) {
+        return lookup(path + "@" + width + "x" + height, () -> new Image(path, width, height, true, true));
+    }
+
+    /**
+     * Gets an image pattern filling a shape with the whole image, creating it on first use.
+     *
+     * @param path The resource path of the image.
+     * @return The shared image pattern.
+     */
+    public static ImagePattern getPattern(String path) {
+        ImagePattern pattern = patterns.get(path);
+        if (pattern != null) {
+            hits.incrementAndGet();
+            return pattern;
+        }
+        return patterns.computeIfAbsent(path, key -> new ImagePattern(getImage(key)));
+    }
+
+    /**
+     * Looks up an image by key, decoding it with the given loader if it is not cached yet.
+     *
+     * @param key    The cache key.
+     * @param loader Decodes the image on a miss.
+     * @return The cached image.
+     */
+    private static Image lookup(String key, Supplier<Image> loader) {
+        Image image = images.get(key);
+        if (image != null) {
+            hits.incrementAndGet();
+            return image;
+        }
+        return images.computeIfAbsent(key, k -> {
+            misses.incrementAndGet();
+            Image loaded = loader.get();
+            if (loaded.isError()) {
+                LOGGER.warning("Error loading image: " + k);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * @return The number of lookups answered from the cache.
+     */
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of lookups that had to decode an image.
+     */
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Estimates the memory held by the decoded images, assuming 4 bytes per pixel.
+     *
+     * @return The estimated size of the cached pixels in bytes.
+     */
+    public static long getEstimatedBytes() {
+        long bytes = 0;
+        for (Image image : images.values()) {
+            bytes += (long) image.getWidth() * (long) image.getHeight() * 4;
+        }
+        return bytes;
+    }
+
+    /**
+     * Builds a one-line summary of the cache's contents and effectiveness.
+     *
+     * @return The summary.
+     */
+    public static String report() {
+        return String.format("AssetCache: %d images, %d patterns, %d hits, %d misses, ~%d KB",
+                images.size(), patterns.size(), getHitCount(), getMissCount(), getEstimatedBytes() / 1024);
+    }
+}
@@ -1,21 +1,49 @@
 package brickGame.View.imageEffects;
 
 import brickGame.Model.soundEffects.SoundEffectUtil;
-import javafx.application.Platform;
+import brickGame.View.FxThread;
+import brickGame.View.assets.AssetCache;
+import javafx.animation.FadeTransition;
+import javafx.animation.PauseTransition;
+import javafx.animation.SequentialTransition;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
-import javafx.animation.FadeTransition;
 import javafx.util.Duration;
 import javafx.geometry.Pos;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Provides utility functions for displaying image effects in the game.
  * Includes methods for showing heart deduction, addition, bonus, and golden ball effects.
+ * Each kind of effect has at most one image on screen: showing it again while it is still visible
+ * fades the existing image back in and restarts its timing instead of stacking another copy.
  */
 public class ImageEffectUtil {
 
+    private static final Duration FADE_DURATION = Duration.seconds(0.3);
+    private static final Duration HOLD_DURATION = Duration.seconds(0.5); // Delay to keep the image visible
+
+    /**
+     * An image effect currently on screen.
+     */
+    private static final class ActiveEffect {
+        final Pane root;
+        final VBox container;
+        final SequentialTransition animation;
+
+        ActiveEffect(Pane root, VBox container, SequentialTransition animation) {
+            this.root = root;
+            this.container = container;
+            this.animation = animation;
+        }
+    }
+
+    // Effects on screen keyed by image path, only touched on the JavaFX thread
+    private static final Map<String, ActiveEffect> activeEffects = new HashMap<>();
+
     /**
      * Displays an image effect for heart deduction in the game.
      * The image fades in and out to indicate the loss of a heart.
@@ -25,50 +53,7 @@ public class ImageEffectUtil {
      * @param sceneHeight Height of the scene for image positioning.
      */
     public static void showHeartDeductedImage(Pane root, int sceneWidth, int sceneHeight) {
-        Platform.runLater(() -> {
-            // Create an ImageView and attempt to load the image
-            Image image = new Image("imagefx/minusHeart.png", 200, 200, true, true);
-            ImageView heartImage = new ImageView(image);
-
-            // Check if the image has been loaded correctly
-            if (image.isError()) {
-                System.out.println("Error loading minus heart image");
-                return; // Exit if the image hasn't been loaded correctly
-            }
-
-            VBox imageContainer = new VBox(heartImage);
-            imageContainer.setAlignment(Pos.CENTER);
-            imageContainer.setPrefSize(sceneWidth, sceneHeight);
-
-            // Initially set the image to be transparent
-            imageContainer.setOpacity(0);
-
-            root.getChildren().add(imageContainer);
-
-            // Fade in transition
-            FadeTransition fadeIn = new FadeTransition(Duration.seconds(0.3), imageContainer);
-            fadeIn.setFromValue(0);
-            fadeIn.setToValue(1);
-            fadeIn.setCycleCount(1);
-
-            // Fade out transition
-            FadeTransition fadeOut = new FadeTransition(Duration.seconds(0.3), imageContainer);
-            fadeOut.setFromValue(1);
-            fadeOut.setToValue(0);
-            fadeOut.setCycleCount(1);
-            fadeOut.setDelay(Duration.seconds(0.5)); // Delay to keep the image visible
-
-            // Start fade in transition
-            fadeIn.play();
-
-            // After fade in, start fade out
-            fadeIn.setOnFinished(event -> fadeOut.play());
-
-            // After fade out, remove the image container
-            fadeOut.setOnFinished(event -> root.getChildren().remove(imageContainer));
-        });
-
-
+        showFadingImage(root, sceneWidth, sceneHeight, "imagefx/minusHeart.png", 200, "minus heart");
     }
 
     /**
@@ -83,50 +68,7 @@ public class ImageEffectUtil {
         // Play heart added sound effect
         SoundEffectUtil.playAddHeartSoundEffect();
 
-        Platform.runLater(() -> {
-            // Create an ImageView and attempt to load the image
-            Image image = new Image("imagefx/plusHeart.png", 400, 400, true, true);
-            ImageView heartImage = new ImageView(image);
-
-            // Check if the image has been loaded correctly
-            if (image.isError()) {
-                System.out.println("Error loading plus heart image");
-                return; // Exit if the image hasn't been loaded correctly
-            }
-
-            VBox imageContainer = new VBox(heartImage);
-            imageContainer.setAlignment(Pos.CENTER);
-            imageContainer.setPrefSize(sceneWidth, sceneHeight);
-
-            // Initially set the image to be transparent
-            imageContainer.setOpacity(0);
-
-            root.getChildren().add(imageContainer);
-
-            // Fade in transition
-            FadeTransition fadeIn = new FadeTransition(Duration.seconds(0.3), imageContainer);
-            fadeIn.setFromValue(0);
-            fadeIn.setToValue(1);
-            fadeIn.setCycleCount(1);
-
-            // Fade out transition
-            FadeTransition fadeOut = new FadeTransition(Duration.seconds(0.3), imageContainer);
-            fadeOut.setFromValue(1);
-            fadeOut.setToValue(0);
-            fadeOut.setCycleCount(1);
-            fadeOut.setDelay(Duration.seconds(0.5)); // Delay to keep the image visible
-
-            // Start fade in transition
-            fadeIn.play();
-
-            // After fade in, start fade out
-            fadeIn.setOnFinished(event -> fadeOut.play());
-
-            // After fade out, remove the image container
-            fadeOut.setOnFinished(event -> root.getChildren().remove(imageContainer));
-        });
-
-
+        showFadingImage(root, sceneWidth, sceneHeight, "imagefx/plusHeart.png", 400, "plus heart");
     }
 
     /**
@@ -138,50 +80,7 @@ public class ImageEffectUtil {
      * @param sceneHeight Height of the scene for image positioning.
      */
     public static void showBonusImage(Pane root, int sceneWidth, int sceneHeight) {
-        Platform.runLater(() -> {
-            // Create an ImageView and attempt to load the image
-            Image image = new Image("imagefx/bonusPicture.png", 250, 250, true, true);
-            ImageView heartImage = new ImageView(image);
-
-            // Check if the image has been loaded correctly
-            if (image.isError()) {
-                System.out.println("Error loading bonus image");
-                return; // Exit if the image hasn't been loaded correctly
-            }
-
-            VBox imageContainer = new VBox(heartImage);
-            imageContainer.setAlignment(Pos.CENTER);
-            imageContainer.setPrefSize(sceneWidth, sceneHeight);
-
-            // Initially set the image to be transparent
-            imageContainer.setOpacity(0);
-
-            root.getChildren().add(imageContainer);
-
-            // Fade in transition
-            FadeTransition fadeIn = new FadeTransition(Duration.seconds(0.3), imageContainer);
-            fadeIn.setFromValue(0);
-            fadeIn.setToValue(1);
-            fadeIn.setCycleCount(1);
-
-            // Fade out transition
-            FadeTransition fadeOut = new FadeTransition(Duration.seconds(0.3), imageContainer);
-            fadeOut.setFromValue(1);
-            fadeOut.setToValue(0);
-            fadeOut.setCycleCount(1);
-            fadeOut.setDelay(Duration.seconds(0.5)); // Delay to keep the image visible
-
-            // Start fade in transition
-            fadeIn.play();
-
-            // After fade in, start fade out
-            fadeIn.setOnFinished(event -> fadeOut.play());
-
-            // After fade out, remove the image container
-            fadeOut.setOnFinished(event -> root.getChildren().remove(imageContainer));
-        });
-
-
+        showFadingImage(root, sceneWidth, sceneHeight, "imagefx/bonusPicture.png", 250, "bonus");
     }
 
     /**
@@ -193,48 +92,84 @@ public class ImageEffectUtil {
      * @param sceneHeight Height of the scene for image positioning.
      */
     public static void showGoldenBallImage(Pane root, int sceneWidth, int sceneHeight) {
-        Platform.runLater(() -> {
-            // Create an ImageView and attempt to load the image
-            Image image = new Image("imagefx/goldenBonus.png", 350, 350, true, true);
-            ImageView heartImage = new ImageView(image);
+        showFadingImage(root, sceneWidth, sceneHeight, "imagefx/goldenBonus.png", 350, "golden ball");
+    }
+
+    /**
+     * Removes every image effect from the screen straight away. Must be called on the JavaFX thread.
+     */
+    public static void cancelAll() {
+        FxThread.check("Cancelling image effects");
+        for (ActiveEffect effect : activeEffects.values()) {
+            effect.animation.stop();
+            effect.root.getChildren().remove(effect.container);
+        }
+        activeEffects.clear();
+    }
+
+    /**
+     * Fades an image in at the centre of the scene, holds it and fades it out again.
+     * May be called from any thread; the work is done on the JavaFX thread, straight away if already on it.
+     *
+     * @param root        The main pane where the image will be displayed.
+     * @param sceneWidth  Width of the scene for image positioning.
+     * @param sceneHeight Height of the scene for image positioning.
+     * @param imagePath   The image to show.
+     * @param size        The size of the square the image is fitted into.
+     * @param name        Name of the image used in error messages.
+     */
+    private static void showFadingImage(Pane root, int sceneWidth, int sceneHeight, String imagePath, int size, String name) {
+        FxThread.run(() -> {
+            ActiveEffect active = activeEffects.get(imagePath);
+            if (active != null && active.root == root) {
+                // Merge: fade the visible image back in from wherever it is and restart its timing
+                active.container.toFront();
+                active.animation.playFromStart();
+                return;
+            }
+            if (active != null) {
+                // The scene has been rebuilt since, drop the old effect
+                active.animation.stop();
+                active.root.getChildren().remove(active.container);
+            }
+
+            Image image = AssetCache.getImage(imagePath, size, size);
 
             // Check if the image has been loaded correctly
             if (image.isError()) {
-                System.out.println("Error loading golden ball image");
+                System.out.println("Error loading " + name + " image");
                 return; // Exit if the image hasn't been loaded correctly
             }
 
-            VBox imageContainer = new VBox(heartImage);
+            VBox imageContainer = new VBox(new ImageView(image));
             imageContainer.setAlignment(Pos.CENTER);
             imageContainer.setPrefSize(sceneWidth, sceneHeight);
+            imageContainer.setMouseTransparent(true);
 
             // Initially set the image to be transparent
             imageContainer.setOpacity(0);
 
             root.getChildren().add(imageContainer);
 
-            // Fade in transition
-            FadeTransition fadeIn = new FadeTransition(Duration.seconds(0.3), imageContainer);
-            fadeIn.setFromValue(0);
+            // Fade in from the current opacity, so a merged effect does not flicker
+            FadeTransition fadeIn = new FadeTransition(FADE_DURATION, imageContainer);
             fadeIn.setToValue(1);
-            fadeIn.setCycleCount(1);
 
-            // Fade out transition
-            FadeTransition fadeOut = new FadeTransition(Duration.seconds(0.3), imageContainer);
+            FadeTransition fadeOut = new FadeTransition(FADE_DURATION, imageContainer);
             fadeOut.setFromValue(1);
             fadeOut.setToValue(0);
-            fadeOut.setCycleCount(1);
-            fadeOut.setDelay(Duration.seconds(0.5)); // Delay to keep the image visible
 
-            // Start fade in transition
-            fadeIn.play();
-
-            // After fade in, start fade out
-            fadeIn.setOnFinished(event -> fadeOut.play());
+            SequentialTransition animation = new SequentialTransition(fadeIn, new PauseTransition(HOLD_DURATION), fadeOut);
+            ActiveEffect effect = new ActiveEffect(root, imageContainer, animation);
 
             // After fade out, remove the image container
-            fadeOut.setOnFinished(event -> root.getChildren().remove(imageContainer));
-        });
+            animation.setOnFinished(event -> {
+                root.getChildren().remove(imageContainer);
+                activeEffects.remove(imagePath, effect);
+            });
 
+            activeEffects.put(imagePath, effect);
+            animation.play();
+        });
     }
 }
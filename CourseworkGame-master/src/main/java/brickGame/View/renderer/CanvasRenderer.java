@@ -0,0 +1,231 @@
+package brickGame.View.renderer;
+
+import brickGame.Model.Block;
+import brickGame.Model.BlockStore;
+import brickGame.Model.BonusDrop;
+import brickGame.Model.FrameSnapshot;
+import brickGame.Model.GameState;
+import brickGame.View.FxThread;
+import brickGame.View.assets.AssetCache;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.ImagePattern;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renderer that draws the whole playfield onto a single canvas each frame.
+ * Instead of one node per block and bonus, the board is redrawn in one pass: plain blocks are grouped by color
+ * when a board is loaded, so the fill only changes once per color, and textured objects reuse the shared patterns
+ * of the {@link AssetCache}.
+ * The canvas is transparent, so the scene's CSS background (including the goldRoot theme) still shows
+ * through; the goldRoot style class is kept in step with the snapshot's gold status.
+ */
+public class CanvasRenderer implements GameRenderer {
+
+    private static final String GOLD_STYLE_CLASS = "goldRoot";
+
+    private final Canvas canvas = new Canvas(GameState.SCENE_WIDTH, GameState.SCENE_HEIGHT);
+    private final Map<Integer, Color> colors = new HashMap<>(); // Block colors by packed ARGB value
+    private BlockStore board; // Layout of the board being drawn, never modified
+    private Pane root; // The root pane the canvas lives in
+    private boolean goldStyled; // Whether the root currently carries the goldRoot style class
+    private int shownBoard = -1; // Board version whose layout is drawn
+    private int[] drawOrder = new int[0]; // Block indices: plain blocks grouped by color, then textured ones by type
+    private int plainCount = 0; // Number of plain blocks at the start of drawOrder
+
+    /**
+     * Constructs a canvas renderer. The canvas ignores the mouse so the HUD buttons above it stay clickable.
+     */
+    public CanvasRenderer() {
+        canvas.setMouseTransparent(true);
+    }
+
+    @Override
+    public void attach(Pane root, GameState state) {
+        FxThread.check("Attaching the renderer");
+        this.root = root;
+        goldStyled = false;
+
+        // Keep the playfield underneath the HUD nodes that are already in the pane
+        root.getChildren().add(0, canvas);
+    }
+
+    @Override
+    public void loadBoard(BlockStore board, int boardVersion) {
+        FxThread.check("Loading the board");
+        this.board = board;
+        shownBoard = boardVersion;
+        buildDrawOrder();
+    }
+
+    /**
+     * Sorts the loaded board's blocks into drawing order: plain blocks grouped by color, then textured blocks
+     * grouped by type. Done once per board, so drawing a frame only walks the order and skips destroyed blocks.
+     */
+    private void buildDrawOrder() {
+        // Sort keys hold the grouping value in the high half and the block index in the low half
+        long[] plain = new long[board.size()];
+        long[] textured = new long[board.size()];
+        int plainBlocks = 0;
+        int texturedBlocks = 0;
+        for (int i = 0; i < board.size(); i++) {
+            if (board.getType(i) == BlockStore.BLOCK_NORMAL) {
+                plain[plainBlocks++] = ((board.getColor(i) & 0xFFFFFFFFL) << 32) | i;
+            } else {
+                textured[texturedBlocks++] = ((long) board.getType(i) << 32) | i;
+            }
+        }
+        Arrays.sort(plain, 0, plainBlocks);
+        Arrays.sort(textured, 0, texturedBlocks);
+
+        drawOrder = new int[plainBlocks + texturedBlocks];
+        for (int i = 0; i < plainBlocks; i++) {
+            drawOrder[i] = (int) plain[i];
+        }
+        for (int i = 0; i < texturedBlocks; i++) {
+            drawOrder[plainBlocks + i] = (int) textured[i];
+        }
+        plainCount = plainBlocks;
+    }
+
+    @Override
+    public void prepareBoard(BlockStore board) {
+        // Blocks are drawn straight from the board's arrays, so there is nothing to build ahead of time
+    }
+
+    @Override
+    public void render(FrameSnapshot frame) {
+        FxThread.check("Rendering a frame");
+        if (frame.boardVersion != shownBoard) {
+            return; // The snapshot predates the current board; keep showing the last frame until a new one arrives
+        }
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        drawBlocks(gc, frame);
+
+        // Paddle
+        gc.setFill(pattern("block.png"));
+        gc.fillRect(frame.xBreak, frame.yBreak, GameState.BREAK_WIDTH, GameState.BREAK_HEIGHT);
+
+        // Ball
+        int radius = GameState.BALL_RADIUS;
+        gc.setFill(pattern(frame.isGoldStatus ? "goldball.png" : "ball.png"));
+        gc.fillOval(frame.xBall - radius, frame.yBall - radius, radius * 2, radius * 2);
+
+        // Falling bonuses
+        for (int i = 0; i < frame.bonusCount; i++) {
+            if (!frame.bonusTaken[i]) {
+                gc.setFill(pattern(frame.bonusVariant[i] == 0 ? "bonus1.png" : "bonus2.png"));
+                gc.fillRect(frame.bonusX[i], frame.bonusY[i], BonusDrop.SIZE, BonusDrop.SIZE);
+            }
+        }
+
+        syncGoldStyle(frame.isGoldStatus);
+    }
+
+    /**
+     * Draws every live block. Plain blocks are drawn first, one color group after another, so the fill only
+     * changes between groups; then the textured blocks, one texture after another. Which blocks are live comes
+     * from the snapshot, their layout from the loaded board.
+     *
+     * @param gc    The graphics context of the canvas.
+     * @param frame The snapshot being drawn.
+     */
+    private void drawBlocks(GraphicsContext gc, FrameSnapshot frame) {
+        BlockStore blocks = board;
+        int currentColor = 0;
+        boolean hasColor = false;
+        for (int n = 0; n < plainCount; n++) {
+            int i = drawOrder[n];
+            if (!frame.isBlockLive(i)) {
+                continue;
+            }
+            int argb = blocks.getColor(i);
+            if (!hasColor || argb != currentColor) {
+                gc.setFill(color(argb));
+                currentColor = argb;
+                hasColor = true;
+            }
+            gc.fillRect(blocks.getX(i), blocks.getY(i), BlockStore.WIDTH, BlockStore.HEIGHT);
+        }
+
+        int currentType = 0;
+        for (int n = plainCount; n < drawOrder.length; n++) {
+            int i = drawOrder[n];
+            if (!frame.isBlockLive(i)) {
+                continue;
+            }
+            int type = blocks.getType(i);
+            String texture = textureOf(type);
+            if (texture == null) {
+                continue;
+            }
+            if (type != currentType) {
+                gc.setFill(pattern(texture));
+                currentType = type;
+            }
+            gc.fillRect(blocks.getX(i), blocks.getY(i), BlockStore.WIDTH, BlockStore.HEIGHT);
+        }
+    }
+
+    /**
+     * Gets the texture drawn for a block type.
+     *
+     * @param type The type of the block.
+     * @return The image resource name, or null for plain colored blocks.
+     */
+    private static String textureOf(int type) {
+        switch (type) {
+            case BlockStore.BLOCK_CHOCO:
+                return "choco.jpg";
+            case BlockStore.BLOCK_HEART:
+                return "heart.jpg";
+            case BlockStore.BLOCK_STAR:
+                return "star.jpg";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Gets the color for a packed ARGB value, creating it on first use.
+     *
+     * @param argb The packed color.
+     * @return The color.
+     */
+    private Color color(int argb) {
+        return colors.computeIfAbsent(argb, Block::fromArgb);
+    }
+
+    /**
+     * Gets the shared image pattern for an image resource.
+     *
+     * @param imagePath The path to the image file.
+     * @return The image pattern.
+     */
+    private ImagePattern pattern(String imagePath) {
+        return AssetCache.getPattern(imagePath);
+    }
+
+    /**
+     * Adds or removes the goldRoot style class so the CSS background follows the gold status.
+     *
+     * @param gold Whether the snapshot being drawn has gold status.
+     */
+    private void syncGoldStyle(boolean gold) {
+        if (gold == goldStyled) {
+            return;
+        }
+        goldStyled = gold;
+        if (goldStyled) {
+            root.getStyleClass().add(GOLD_STYLE_CLASS);
+        } else {
+            root.getStyleClass().remove(GOLD_STYLE_CLASS);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package brickGame.View.renderer;
+
+import brickGame.Model.BlockStore;
+import brickGame.Model.FrameSnapshot;
+import brickGame.Model.GameState;
+import javafx.scene.layout.Pane;
+
+/**
+ * Draws the playfield of a game: blocks, paddle, ball and falling bonuses.
+ * HUD elements such as labels and menus are not part of the renderer.
+ * Everything that moves is read from the {@link FrameSnapshot} passed to render(), never from the live state,
+ * so a frame always shows one complete physics step, including which blocks and bonuses are gone and whether
+ * the ball is gold. Board changes reach the renderer as {@link RenderCommand}s applied on the JavaFX thread right
+ * before the next render(). Every method here except prepareBoard() is only ever called on the JavaFX thread.
+ */
+public interface GameRenderer {
+
+    /**
+     * Adds the renderer's nodes to the root pane of the game scene. Called once, when the scene is built;
+     * the first board follows through loadBoard().
+     *
+     * @param root  The root pane of the game scene.
+     * @param state The state to draw.
+     */
+    void attach(Pane root, GameState state);
+
+    /**
+     * Replaces the views of the previous board with views of a new board, reusing everything else.
+     * Called when a level starts or a game is loaded, once the new board has been built. The board is a copy
+     * that is never modified, so it can be read here while the simulation keeps stepping; which blocks are live
+     * comes from the snapshots. Snapshots of an older board are not drawn after this call.
+     *
+     * @param board        The layout of the new board.
+     * @param boardVersion The board version of the new board, as stamped on its snapshots.
+     */
+    void loadBoard(BlockStore board, int boardVersion);
+
+    /**
+     * Builds whatever the renderer needs for a board that has been generated ahead of time, so loadBoard() can
+     * reuse it if that board is loaded next. Called on a background thread while the current level is played;
+     * nothing built here may be attached to the scene until loadBoard().
+     *
+     * @param board The prefetched board; it is never modified.
+     */
+    void prepareBoard(BlockStore board);
+
+    /**
+     * Brings the screen up to date with a snapshot. Called on the JavaFX thread at most once per
+     * rendered frame, and only when the simulation has published a new snapshot.
+     *
+     * @param frame The latest snapshot; only valid until render() returns.
+     */
+    void render(FrameSnapshot frame);
+}
@@ -0,0 +1,101 @@
+package brickGame.View.renderer;
+
+import brickGame.Model.BlockStore;
+
+/**
+ * A typed, immutable request to change what is on screen, issued by the thread stepping the simulation
+ * and carried out later on the JavaFX thread by whoever drains the {@link RenderCommandBuffer}.
+ * Each command has a type and up to three arguments whose meaning depends on the type; BOARD_LOADED also carries
+ * the new board.
+ */
+public final class RenderCommand {
+
+    // Command types
+    public static final int SCORE_POPUP = 0; // x, y: position, value: points
+    public static final int IMAGE_EFFECT = 1; // value: one of the EFFECT_ constants
+    public static final int SHAKE_STAGE = 2; // No arguments
+    public static final int BOARD_LOADED = 3; // value: level of the new board, board and boardVersion: the board
+    public static final int LEVEL_UP = 4; // value: the level reached
+    public static final int GAME_WON = 5; // No arguments
+    public static final int CANCEL_EFFECTS = 6; // No arguments
+    public static final int GAME_OVER = 7; // No arguments
+
+    // Image effects shown by IMAGE_EFFECT
+    public static final int EFFECT_HEART_LOST = 0;
+    public static final int EFFECT_HEART_GAINED = 1;
+    public static final int EFFECT_BONUS = 2;
+    public static final int EFFECT_GOLDEN_BALL = 3;
+
+    public final int type;
+    public final int value;
+    public final double x;
+    public final double y;
+    public final BlockStore board; // Layout of the new board, never modified; only set for BOARD_LOADED
+    public final int boardVersion; // Board version of the new board; only set for BOARD_LOADED
+
+    /**
+     * Creates a command.
+     *
+     * @param type  The command type.
+     * @param value The integer argument.
+     * @param x     The x-coordinate argument.
+     * @param y     The y-coordinate argument.
+     */
+    private RenderCommand(int type, int value, double x, double y) {
+        this(type, value, x, y, null, 0);
+    }
+
+    /**
+     * Creates a command that may carry a board.
+     *
+     * @param type         The command type.
+     * @param value        The integer argument.
+     * @param x            The x-coordinate argument.
+     * @param y            The y-coordinate argument.
+     * @param board        The board argument, or null.
+     * @param boardVersion The board version argument.
+     */
+    private RenderCommand(int type, int value, double x, double y, BlockStore board, int boardVersion) {
+        this.type = type;
+        this.value = value;
+        this.x = x;
+        this.y = y;
+        this.board = board;
+        this.boardVersion = boardVersion;
+    }
+
+    /**
+     * Creates a command with only an integer argument.
+     *
+     * @param type  The command type.
+     * @param value The integer argument.
+     * @return The command.
+     */
+    public static RenderCommand of(int type, int value) {
+        return new RenderCommand(type, value, 0, 0);
+    }
+
+    /**
+     * Creates a command swapping in the views of a new board.
+     *
+     * @param board        The layout of the new board; it must never be modified afterwards.
+     * @param boardVersion The board version of the new board.
+     * @param level        The level of the new board.
+     * @return The command.
+     */
+    public static RenderCommand boardLoaded(BlockStore board, int boardVersion, int level) {
+        return new RenderCommand(BOARD_LOADED, level, 0, 0, board, boardVersion);
+    }
+
+    /**
+     * Creates a command showing points scored at a position.
+     *
+     * @param x      The x-coordinate of the popup.
+     * @param y      The y-coordinate of the popup.
+     * @param points The points to show.
+     * @return The command.
+     */
+    public static RenderCommand scorePopup(double x, double y, int points) {
+        return new RenderCommand(SCORE_POPUP, points, x, y);
+    }
+}
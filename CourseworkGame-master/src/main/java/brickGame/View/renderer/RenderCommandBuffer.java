@@ -0,0 +1,61 @@
+package brickGame.View.renderer;
+
+import brickGame.View.FxThread;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Collects render commands from the threads stepping the simulation and applies them on the JavaFX thread
+ * in one batch per pulse, so engine threads never touch nodes and the scene graph only changes, and has its
+ * CSS and layout recomputed, once per frame.
+ */
+public class RenderCommandBuffer {
+
+    private final Queue<RenderCommand> pending = new ConcurrentLinkedQueue<>(); // Commands waiting for the next pulse
+
+    // Statistics, only updated on the JavaFX thread
+    private long batches = 0;
+    private long applied = 0;
+    private int largestBatch = 0;
+
+    /**
+     * Queues a command for the next pulse. May be called from any thread.
+     *
+     * @param command The command to queue.
+     */
+    public void add(RenderCommand command) {
+        pending.add(command);
+    }
+
+    /**
+     * Applies the commands queued so far, oldest first. Must be called on the JavaFX thread.
+     * Commands queued while the batch is being applied wait for the next pulse.
+     *
+     * @param handler Carries out each command.
+     * @return The number of commands applied.
+     */
+    public int applyAll(Consumer<RenderCommand> handler) {
+        FxThread.check("Applying render commands");
+        int count = pending.size();
+        for (int i = 0; i < count; i++) {
+            handler.accept(pending.poll());
+        }
+        if (count > 0) {
+            batches++;
+            applied += count;
+            largestBatch = Math.max(largestBatch, count);
+        }
+        return count;
+    }
+
+    /**
+     * Builds a summary of the commands applied so far.
+     *
+     * @return The summary.
+     */
+    public String report() {
+        return String.format("RenderCommandBuffer: %d commands in %d batches, largest batch %d, %d pending",
+                applied, batches, largestBatch, pending.size());
+    }
+}
@@ -0,0 +1,222 @@
+package brickGame.View.renderer;
+
+import brickGame.Model.Block;
+import brickGame.Model.BlockStore;
+import brickGame.Model.FrameSnapshot;
+import brickGame.Model.GameState;
+import brickGame.View.Bonus;
+import brickGame.View.FxThread;
+import brickGame.View.assets.AssetCache;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.ImagePattern;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+import java.util.ArrayList;
+
+/**
+ * Renderer that gives every game object its own scene-graph node.
+ * Each block is a {@link Block} rectangle, each bonus a {@link Bonus} rectangle, and the paddle
+ * and ball are a rectangle and a circle. Nodes are only touched from {@link #render(FrameSnapshot)}, and only when
+ * the value they show has changed since the previous frame. The block views of a board generated ahead of time
+ * are built on the prefetch thread, so starting the next level only swaps them into the scene.
+ */
+public class SceneGraphRenderer implements GameRenderer {
+
+    private GameState state; // The state being drawn
+    private Pane root; // The root pane the nodes live in
+    private Circle ball; // The ball
+    private Rectangle rect; // The paddle
+    private final ArrayList<Block> blocks = new ArrayList<>(); // Views of the loaded board, blocks.get(i) shows entry i
+    private final ArrayList<Bonus> chocos = new ArrayList<>(); // Views of state.bonuses, chocos.get(i) shows entry i
+    private boolean goldShown; // Whether the ball and background currently show gold status
+    private int shownBoard = -1; // Board version the block and bonus views belong to
+    private volatile PreparedBoard prepared; // Views built ahead of time for the next board, or null
+
+    /**
+     * Block views built off the JavaFX thread for a prefetched board.
+     */
+    private static class PreparedBoard {
+        final BlockStore board; // The prefetched board, handed to loadBoard() again when its level starts
+        final ArrayList<Block> views; // views.get(i) shows entry i of board
+
+        PreparedBoard(BlockStore board, ArrayList<Block> views) {
+            this.board = board;
+            this.views = views;
+        }
+    }
+
+    @Override
+    public void attach(Pane root, GameState state) {
+        FxThread.check("Attaching the renderer");
+        this.root = root;
+        this.state = state;
+
+        initBall();
+        initBreak();
+        goldShown = false;
+
+        // Keep the playfield underneath the HUD nodes that are already in the pane
+        root.getChildren().add(0, rect);
+        root.getChildren().add(1, ball);
+    }
+
+    @Override
+    public void loadBoard(BlockStore board, int boardVersion) {
+        FxThread.check("Loading the board");
+        for (Block block : blocks) {
+            root.getChildren().remove(block.getRect());
+        }
+        for (Bonus choco : chocos) {
+            root.getChildren().remove(choco.choco);
+        }
+        chocos.clear();
+        PreparedBoard ready = prepared;
+        prepared = null;
+        if (ready != null && ready.board == board) {
+            blocks.clear();
+            blocks.addAll(ready.views);
+        } else {
+            initBlockViews(board);
+        }
+        shownBoard = boardVersion;
+
+        // Blocks go right above the paddle and ball, underneath the HUD
+        int position = 2;
+        for (Block block : blocks) {
+            root.getChildren().add(position++, block.getRect());
+        }
+    }
+
+    @Override
+    public void prepareBoard(BlockStore board) {
+        // Nodes may be created off the JavaFX thread as long as they are not part of a showing scene yet
+        ArrayList<Block> views = new ArrayList<>(board.size());
+        for (int i = 0; i < board.size(); i++) {
+            views.add(new Block(board, i));
+        }
+        prepared = new PreparedBoard(board, views);
+    }
+
+    /**
+     * Initializes the ball for the game.
+     * Creates the graphical representation of the ball; its position comes from the game state.
+     */
+    private void initBall() {
+        ball = new Circle();
+        ball.setRadius(GameState.BALL_RADIUS);
+        ball.setCenterX(state.xBall);
+        ball.setCenterY(state.yBall);
+        ball.setFill(loadImagePattern("ball.png"));
+    }
+
+    /**
+     * Initializes the player's paddle, often referred to as the "breaker", with its starting position and graphical appearance.
+     * This method sets up the paddle as a rectangle with predefined dimensions and positions it at the bottom of the game scene.
+     * It also applies a graphical pattern to the paddle for visual appeal.
+     */
+    private void initBreak() {
+        rect = new Rectangle();
+        rect.setWidth(GameState.BREAK_WIDTH); // Sets the width of the paddle
+        rect.setHeight(GameState.BREAK_HEIGHT); // Sets the height of the paddle
+        rect.setX(state.xBreak); // Positions the paddle horizontally based on the starting X-coordinate
+        rect.setY(state.yBreak); // Positions the paddle vertically at a predefined Y-coordinate.
+        rect.setFill(loadImagePattern("block.png")); // Applies an image pattern to the paddle for visual styling.
+    }
+
+    /**
+     * Creates a view for every block of a board. Blocks that are already destroyed, e.g. in a loaded game,
+     * are hidden by the first snapshot of the board.
+     *
+     * @param board The layout of the board.
+     */
+    private void initBlockViews(BlockStore board) {
+        blocks.clear();
+        for (int i = 0; i < board.size(); i++) {
+            blocks.add(new Block(board, i));
+        }
+    }
+
+    /**
+     * Loads an image pattern from a given file path.
+     * Used to create graphical representations for game objects.
+     *
+     * @param imagePath The path to the image file.
+     * @return The loaded ImagePattern.
+     */
+    private ImagePattern loadImagePattern(String imagePath) {
+        return AssetCache.getPattern(imagePath);
+    }
+
+    @Override
+    public void render(FrameSnapshot frame) {
+        FxThread.check("Rendering a frame");
+        setIfChanged(rect, frame.xBreak, frame.yBreak);
+        if (ball.getCenterX() != frame.xBall) {
+            ball.setCenterX(frame.xBall);
+        }
+        if (ball.getCenterY() != frame.yBall) {
+            ball.setCenterY(frame.yBall);
+        }
+
+        if (frame.boardVersion == shownBoard) { // Otherwise the snapshot predates the current board
+            for (int i = 0; i < blocks.size(); i++) {
+                Rectangle view = blocks.get(i).getRect();
+                if (view.isVisible() && !frame.isBlockLive(i)) {
+                    view.setVisible(false);
+                }
+            }
+            renderBonuses(frame);
+        }
+
+        if (frame.isGoldStatus != goldShown) {
+            goldShown = frame.isGoldStatus;
+            if (goldShown) {
+                ball.setFill(loadImagePattern("goldball.png"));
+                root.getStyleClass().add("goldRoot");
+            } else {
+                ball.setFill(loadImagePattern("ball.png"));
+                root.getStyleClass().remove("goldRoot");
+            }
+        }
+    }
+
+    /**
+     * Creates views for newly released bonuses, moves falling ones and hides those that were caught.
+     *
+     * @param frame The snapshot being drawn.
+     */
+    private void renderBonuses(FrameSnapshot frame) {
+        for (int i = chocos.size(); i < frame.bonusCount; i++) {
+            Bonus choco = new Bonus(frame.bonusX[i], frame.bonusY[i], frame.bonusVariant[i]);
+            chocos.add(choco);
+            root.getChildren().add(choco.choco);
+        }
+        for (int i = 0, n = Math.min(chocos.size(), frame.bonusCount); i < n; i++) {
+            Rectangle view = chocos.get(i).choco;
+            if (!view.isVisible()) {
+                continue;
+            }
+            if (frame.bonusTaken[i]) {
+                view.setVisible(false);
+            } else if (view.getY() != frame.bonusY[i]) {
+                view.setY(frame.bonusY[i]);
+            }
+        }
+    }
+
+    /**
+     * Moves a rectangle, touching only the coordinates that changed.
+     *
+     * @param node The rectangle to move.
+     * @param x    The new x-coordinate.
+     * @param y    The new y-coordinate.
+     */
+    private static void setIfChanged(Rectangle node, double x, double y) {
+        if (node.getX() != x) {
+            node.setX(x);
+        }
+        if (node.getY() != y) {
+            node.setY(y);
+        }
+    }
+}
@@ -1,37 +1,66 @@
 package brickGame.View.stageEffects;
 
-import javafx.application.Platform;
+import brickGame.View.FxThread;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 
+/**
+ * Provides window effects for the game, driven by a JavaFX timeline so they never block the caller.
+ */
 public class StageEffectUtil {
 
+    private static final double SHAKE_DISTANCE = 5;
+    private static final int SHAKE_CYCLES = 10;
+    private static final Duration SHAKE_INTERVAL = Duration.millis(20);
+
+    // The running shake, only touched on the JavaFX thread
+    private static Timeline shakeTimeline;
+    private static Stage shakenStage;
+    private static double originalX;
+    private static double originalY;
+
     /**
      * Shakes the given stage to create a visual effect.
      * This effect is typically used to indicate game events like losing a heart.
+     * The call returns immediately and may come from any thread; on the JavaFX thread the shake starts straight away. A shake requested while one is running
+     * is merged into it: the shake starts over from the stage's resting position rather than drifting.
      * @param stage The stage to be shaken.
      */
     public static void shakeStage(Stage stage) {
-        final double originalX = stage.getX();
-        final double originalY = stage.getY();
-        final int shakeDistance = 5;
-        final int shakeCycles = 10;
-
-        for (int i = 0; i < shakeCycles; i++) {
-            Platform.runLater(() -> {
-                stage.setX(originalX + Math.random() * shakeDistance - shakeDistance / 2.0);
-                stage.setY(originalY + Math.random() * shakeDistance - shakeDistance / 2.0);
-            });
-
-            try {
-                Thread.sleep(20);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+        FxThread.run(() -> {
+            if (shakeTimeline != null && shakenStage == stage) {
+                shakeTimeline.playFromStart(); // Merge: extend the running shake
+                return;
             }
+            cancelShake();
 
-            Platform.runLater(() -> {
-                stage.setX(originalX);
-                stage.setY(originalY);
-            });
+            shakenStage = stage;
+            originalX = stage.getX();
+            originalY = stage.getY();
+            shakeTimeline = new Timeline(new KeyFrame(SHAKE_INTERVAL, e -> {
+                stage.setX(originalX + Math.random() * SHAKE_DISTANCE - SHAKE_DISTANCE / 2.0);
+                stage.setY(originalY + Math.random() * SHAKE_DISTANCE - SHAKE_DISTANCE / 2.0);
+            }));
+            shakeTimeline.setCycleCount(SHAKE_CYCLES);
+            shakeTimeline.setOnFinished(e -> cancelShake());
+            shakeTimeline.play();
+        });
+    }
+
+    /**
+     * Stops any running shake and puts the stage back where it was. Must be called on the JavaFX thread.
+     */
+    public static void cancelShake() {
+        FxThread.check("Cancelling the stage shake");
+        if (shakeTimeline == null) {
+            return;
         }
+        shakeTimeline.stop();
+        shakenStage.setX(originalX);
+        shakenStage.setY(originalY);
+        shakeTimeline = null;
+        shakenStage = null;
     }
 }
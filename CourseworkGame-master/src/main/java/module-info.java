@@ -7,6 +7,11 @@ module brickGame {
     exports brickGame;
     exports brickGame.Model;
     opens brickGame.Model to javafx.fxml;
+    exports brickGame.Model.clock;
+    exports brickGame.Model.input;
+    exports brickGame.Model.level;
+    exports brickGame.Model.replay;
+    exports brickGame.Model.save;
     exports brickGame.View;
     opens brickGame.View to javafx.fxml;
 }
\ No newline at end of file
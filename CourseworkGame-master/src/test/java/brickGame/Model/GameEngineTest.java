@@ -0,0 +1,151 @@
+package brickGame.Model;
+
+import brickGame.Model.clock.ManualGameClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the FIXED_TIMESTEP loop of {@link GameEngine}, driven by a {@link ManualGameClock}
+ * so the number of physics steps only depends on how far the clock is advanced.
+ */
+class GameEngineTest {
+
+    private static final long STEP_NANOS = 1_000_000_000L / 120;
+    private static final long TIMEOUT_MILLIS = 2000;
+    private static final long SETTLE_MILLIS = 50; // Long enough for many 1 ms frames to run
+
+    private final AtomicInteger steps = new AtomicInteger(); // Physics updates run so far
+    private final AtomicInteger frames = new AtomicInteger(); // Frames run so far
+    private GameEngine engine;
+    private ManualGameClock clock;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        clock = new ManualGameClock();
+        engine = new GameEngine();
+        engine.setMode(GameEngine.Mode.FIXED_TIMESTEP);
+        engine.setPhysicsHz(120);
+        engine.setFps(1000);
+        engine.setClock(clock);
+        engine.setOnAction(new GameEngine.OnAction() {
+            @Override
+            public void onUpdate() {
+                frames.incrementAndGet();
+            }
+
+            @Override
+            public void onRender() {
+            }
+
+            @Override
+            public void onInit() {
+            }
+
+            @Override
+            public void onPhysicsUpdate() {
+                steps.incrementAndGet();
+            }
+
+            @Override
+            public void onTime(long time) {
+            }
+        });
+        engine.start();
+        awaitAtLeast(frames, 1); // The loop has read the clock, so later advances count as elapsed time
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    @Test
+    void runsOneStepPerStepOfClockTime() throws InterruptedException {
+        clock.advance(3 * STEP_NANOS + STEP_NANOS / 2);
+        assertSteps(3);
+        assertEquals(3 * STEP_NANOS / 1_000_000L, engine.getTime());
+
+        // The half step left over is kept in the accumulator
+        clock.advance(STEP_NANOS / 2 + 1);
+        assertSteps(4);
+        assertEquals(4 * STEP_NANOS / 1_000_000L, engine.getTime());
+    }
+
+    @Test
+    void capsCatchUpAndDropsTheBacklog() throws InterruptedException {
+        engine.setMaxStepsPerFrame(5);
+        clock.advance(20 * STEP_NANOS);
+        assertSteps(5);
+
+        clock.advance(STEP_NANOS);
+        assertSteps(6);
+    }
+
+    @Test
+    void pausedEngineRunsNoStepsAndDoesNotCatchUp() throws InterruptedException {
+        engine.pause();
+        clock.advance(10 * STEP_NANOS);
+        Thread.sleep(SETTLE_MILLIS);
+        assertEquals(0, steps.get());
+
+        engine.resume();
+        Thread.sleep(SETTLE_MILLIS);
+        assertEquals(0, steps.get());
+
+        clock.advance(2 * STEP_NANOS);
+        assertSteps(2);
+    }
+
+    @Test
+    void timeScaleSlowsTheSteps() throws InterruptedException {
+        engine.setTimeScale(0.5);
+        clock.advance(4 * STEP_NANOS);
+        assertSteps(2);
+    }
+
+    @Test
+    void loadLevelRestartsTheTimeline() throws InterruptedException {
+        clock.advance(3 * STEP_NANOS);
+        assertSteps(3);
+
+        AtomicInteger loads = new AtomicInteger();
+        engine.loadLevel(loads::incrementAndGet);
+        awaitAtLeast(loads, 1);
+        assertEquals(0, engine.getTime());
+
+        clock.advance(STEP_NANOS);
+        assertSteps(4);
+        assertEquals(STEP_NANOS / 1_000_000L, engine.getTime());
+    }
+
+    /**
+     * Waits for the engine to reach a number of physics steps, then checks it does not run any more.
+     *
+     * @param expected The number of steps expected in total.
+     */
+    private void assertSteps(int expected) throws InterruptedException {
+        awaitAtLeast(steps, expected);
+        Thread.sleep(SETTLE_MILLIS);
+        assertEquals(expected, steps.get());
+    }
+
+    /**
+     * Waits until a counter reaches a value, failing after a timeout.
+     *
+     * @param counter The counter to watch.
+     * @param value   The value to wait for.
+     */
+    private static void awaitAtLeast(AtomicInteger counter, int value) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (counter.get() < value && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(counter.get() >= value, "Timed out waiting for " + value + ", got " + counter.get());
+    }
+}
@@ -0,0 +1,112 @@
+package brickGame.Model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests the triple-buffered handoff of {@link FrameSnapshot}s in {@link SnapshotBuffer}.
+ */
+class SnapshotBufferTest {
+
+    @Test
+    void nothingToAcquireUntilPublished() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        assertNull(buffer.acquireLatest());
+
+        buffer.publish(new GameState(), 1);
+        assertEquals(1, buffer.acquireLatest().tick);
+        assertNull(buffer.acquireLatest());
+    }
+
+    @Test
+    void readerGetsTheLatestSnapshot() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        GameState state = new GameState();
+        for (int tick = 1; tick <= 5; tick++) {
+            state.score = tick * 10;
+            buffer.publish(state, tick);
+        }
+
+        FrameSnapshot snapshot = buffer.acquireLatest();
+        assertEquals(5, snapshot.tick);
+        assertEquals(50, snapshot.score);
+    }
+
+    @Test
+    void acquiredSnapshotIsNotOverwrittenByLaterPublishes() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        GameState state = new GameState();
+        state.score = 1;
+        buffer.publish(state, 1);
+        FrameSnapshot held = buffer.acquireLatest();
+
+        for (int tick = 2; tick <= 10; tick++) {
+            state.score = tick;
+            buffer.publish(state, tick);
+        }
+        assertEquals(1, held.tick);
+        assertEquals(1, held.score);
+        assertEquals(10, buffer.acquireLatest().tick);
+    }
+
+    @Test
+    void snapshotTracksLiveBlocks() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        GameState state = new GameState();
+        for (int i = 0; i < 100; i++) {
+            state.blocks.add(i / 4, i % 4, BlockStore.BLOCK_NORMAL, 0xFFFF0000);
+        }
+        state.blocks.destroy(3);
+        state.blocks.destroy(70);
+        buffer.publish(state, 1);
+
+        FrameSnapshot snapshot = buffer.acquireLatest();
+        assertEquals(100, snapshot.blockCount);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i != 3 && i != 70, snapshot.isBlockLive(i), "block " + i);
+        }
+        assertEquals(4, snapshot.nextLiveBlock(3));
+        assertEquals(71, snapshot.nextLiveBlock(70));
+    }
+
+    @Test
+    void readerOnAnotherThreadSeesCompleteSnapshotsInOrder() throws InterruptedException {
+        final int lastTick = 200_000;
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            long previous = 0;
+            while (previous < lastTick) {
+                FrameSnapshot snapshot = buffer.acquireLatest();
+                if (snapshot == null) {
+                    continue;
+                }
+                // Every field written for one tick must be seen together
+                if (snapshot.tick <= previous || snapshot.score != snapshot.tick || snapshot.heart != -snapshot.tick) {
+                    failure.set("tick " + snapshot.tick + " after " + previous + ", score " + snapshot.score
+                            + ", heart " + snapshot.heart);
+                    return;
+                }
+                previous = snapshot.tick;
+            }
+        });
+        reader.start();
+
+        GameState state = new GameState();
+        for (int tick = 1; tick <= lastTick; tick++) {
+            state.score = tick;
+            state.heart = -tick;
+            buffer.publish(state, tick);
+        }
+        reader.join(10_000);
+
+        assertNull(failure.get());
+        assertFalse(reader.isAlive(), "The reader never saw the last snapshot");
+    }
+}
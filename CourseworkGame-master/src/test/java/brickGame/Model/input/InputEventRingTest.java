@@ -0,0 +1,96 @@
+package brickGame.Model.input;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the single-producer/single-consumer handoff of key events in {@link InputEventRing}.
+ */
+class InputEventRingTest {
+
+    private static final int CAPACITY = 256;
+
+    @Test
+    void drainsEventsOldestFirst() {
+        InputEventRing ring = new InputEventRing();
+        ring.offer(1, true, 100);
+        ring.offer(2, true, 200);
+        ring.offer(1, false, 300);
+
+        List<String> drained = new ArrayList<>();
+        int count = ring.drain((key, pressed, receivedAt) -> drained.add(key + ":" + pressed + "@" + receivedAt));
+
+        assertEquals(3, count);
+        assertEquals(List.of("1:true@100", "2:true@200", "1:false@300"), drained);
+        assertEquals(0, ring.drain((key, pressed, receivedAt) -> drained.add("again")));
+    }
+
+    @Test
+    void dropsEventsWhenFull() {
+        InputEventRing ring = new InputEventRing();
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(ring.offer(1, true, i));
+        }
+        assertFalse(ring.offer(1, true, CAPACITY));
+        assertEquals(1, ring.getDropped());
+
+        assertEquals(CAPACITY, ring.drain((key, pressed, receivedAt) -> { }));
+        assertTrue(ring.offer(1, true, 0));
+        assertEquals(1, ring.getDropped());
+    }
+
+    @Test
+    void clearDiscardsQueuedEvents() {
+        InputEventRing ring = new InputEventRing();
+        ring.offer(1, true, 1);
+        ring.offer(2, true, 2);
+
+        assertEquals(2, ring.clear());
+        assertEquals(0, ring.drain((key, pressed, receivedAt) -> { }));
+
+        ring.offer(2, false, 3);
+        List<Long> drained = new ArrayList<>();
+        ring.drain((key, pressed, receivedAt) -> drained.add(receivedAt));
+        assertEquals(List.of(3L), drained);
+    }
+
+    @Test
+    void consumerOnAnotherThreadSeesEveryEventInOrder() throws InterruptedException {
+        final int events = 100_000;
+        InputEventRing ring = new InputEventRing();
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread consumer = new Thread(() -> {
+            long[] next = {0};
+            while (next[0] < events && failure.get() == null) {
+                ring.drain((key, pressed, receivedAt) -> {
+                    // Every field written for one event must be seen together, and no event skipped
+                    if (receivedAt != next[0] || key != (int) (receivedAt & 0xFF) || pressed != ((receivedAt & 1) == 0)) {
+                        failure.compareAndSet(null, "expected event " + next[0] + ", got " + key + ", "
+                                + pressed + ", " + receivedAt);
+                    }
+                    next[0]++;
+                });
+            }
+        });
+        consumer.start();
+
+        for (long i = 0; i < events; i++) {
+            while (!ring.offer((int) (i & 0xFF), (i & 1) == 0, i)) {
+                Thread.yield(); // Full: let the consumer catch up instead of losing the event
+            }
+        }
+        consumer.join(10_000);
+
+        assertNull(failure.get());
+        assertFalse(consumer.isAlive(), "The consumer never saw the last event");
+    }
+}
@@ -0,0 +1,230 @@
+package brickGame.Model.replay;
+
+import brickGame.Model.BlockStore;
+import brickGame.Model.GameState;
+import brickGame.Model.PaddleInput;
+import brickGame.Model.Simulation;
+import brickGame.Model.level.LevelGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that recordings replay to exactly the session they were made from, in every format version.
+ */
+class ReplayEngineTest {
+
+    private static final long SEED = 20231207L;
+    private static final int STEPS = 6000;
+    private static final int[] KEY_PATTERN = {PaddleInput.RIGHT, 0, PaddleInput.LEFT, PaddleInput.LEFT | PaddleInput.RIGHT};
+
+    @TempDir
+    File directory;
+
+    @Test
+    void recordedSessionReplaysToTheSameState() throws IOException {
+        GameState live = new GameState();
+        Simulation simulation = new Simulation(live, SEED);
+        InputRecorder recorder = new InputRecorder(SEED);
+        simulation.setRecorder(recorder);
+        simulation.startNextLevel();
+        for (int i = 0; i < STEPS; i++) {
+            if (live.levelComplete) {
+                simulation.advanceLevel();
+            } else if (live.gameOver) {
+                simulation.resetGame();
+                simulation.startNextLevel();
+            }
+            simulation.getPaddleInput().set(KEY_PATTERN[i / 90 % KEY_PATTERN.length]);
+            simulation.step();
+        }
+        File file = new File(directory, "session.rec");
+        recorder.save(file, simulation.getTotalTicks());
+        assertTrue(recorder.size() > 0);
+
+        ReplayEngine replay = new ReplayEngine(file);
+        assertEquals(InputRecorder.VERSION, replay.getVersion());
+        assertEquals(SEED, replay.getSeed());
+        assertEquals(STEPS, replay.getEndTick());
+        assertEquals(describe(live), describe(replay.replay(false, null)));
+    }
+
+    @Test
+    void replayingTwiceGivesTheSameState() throws IOException {
+        File file = new File(directory, "keys.rec");
+        writeRecording(file, 3, InputRecorder.KEY_STATE);
+
+        ReplayEngine replay = new ReplayEngine(file);
+        assertEquals(describe(replay.replay(false, null)), describe(replay.replay(false, null)));
+    }
+
+    @Test
+    void version1PaddleMovesReplayOnLegacyBoards() throws IOException {
+        File file = new File(directory, "v1.rec");
+        writeRecording(file, 1, InputRecorder.PADDLE_MOVE);
+
+        GameState expected = new GameState();
+        Simulation simulation = new Simulation(expected, SEED);
+        simulation.useLegacyBoards();
+        simulation.startNextLevel();
+        for (int i = 0; i < STEPS; i++) {
+            if (i % 30 == 0) {
+                simulation.movePaddle(paddleDelta(i));
+            }
+            simulation.step();
+        }
+
+        ReplayEngine replay = new ReplayEngine(file);
+        assertEquals(1, replay.getVersion());
+        assertEquals(describe(expected), describe(replay.replay(false, null)));
+    }
+
+    @Test
+    void version2KeyStatesReplayOnLegacyBoards() throws IOException {
+        File file = new File(directory, "v2.rec");
+        writeRecording(file, 2, InputRecorder.KEY_STATE);
+
+        GameState expected = new GameState();
+        Simulation simulation = new Simulation(expected, SEED);
+        simulation.useLegacyBoards();
+        simulation.startNextLevel();
+        for (int i = 0; i < STEPS; i++) {
+            if (i % 30 == 0) {
+                simulation.getPaddleInput().set(keys(i));
+            }
+            simulation.step();
+        }
+
+        ReplayEngine replay = new ReplayEngine(file);
+        assertEquals(2, replay.getVersion());
+        assertEquals(describe(expected), describe(replay.replay(false, null)));
+    }
+
+    @Test
+    void boardsComeFromTheFormatsBoardSource() throws IOException {
+        File legacy = new File(directory, "v2.rec");
+        File seeded = new File(directory, "v3.rec");
+        writeRecording(legacy, 2, InputRecorder.KEY_STATE);
+        writeRecording(seeded, 3, InputRecorder.KEY_STATE);
+
+        // Before version 3 the first board was drawn from the rules' random generator, since then from its own seed
+        BlockStore legacyBoard = new BlockStore();
+        LevelGenerator.fill(legacyBoard, 1, new Random(SEED));
+        BlockStore seededBoard = new LevelGenerator(SEED).generate(0, 1);
+
+        GameState legacyState = new ReplayEngine(legacy).replay(false, null);
+        GameState seededState = new ReplayEngine(seeded).replay(false, null);
+        assertEquals(1, legacyState.level);
+        assertEquals(1, seededState.level);
+        assertEquals(layout(legacyBoard), layout(legacyState.blocks));
+        assertEquals(layout(seededBoard), layout(seededState.blocks));
+    }
+
+    @Test
+    void unknownVersionsAreRejected() throws IOException {
+        File file = new File(directory, "v9.rec");
+        writeRecording(file, InputRecorder.VERSION + 1, InputRecorder.KEY_STATE);
+        assertThrows(IOException.class, () -> new ReplayEngine(file));
+    }
+
+    @Test
+    void truncatedRecordingsAreRejected() throws IOException {
+        File file = new File(directory, "cut.rec");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(InputRecorder.MAGIC);
+            out.writeByte(3);
+            out.writeLong(SEED);
+        }
+        assertThrows(IOException.class, () -> new ReplayEngine(file));
+    }
+
+    /**
+     * Writes a recording by hand, as a build using the given format version would have: an input event
+     * every 30 steps, then the end of the recording after STEPS steps.
+     *
+     * @param file    The file to write.
+     * @param version The format version to write.
+     * @param type    The type of every input event, PADDLE_MOVE or KEY_STATE.
+     */
+    private static void writeRecording(File file, int version, byte type) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(InputRecorder.MAGIC);
+            out.writeByte(version);
+            out.writeLong(SEED);
+            out.writeLong(0L);
+
+            long previous = 0;
+            for (int tick = 0; tick < STEPS; tick += 30) {
+                InputRecorder.writeVarLong(out, tick - previous);
+                out.writeByte(type);
+                out.writeByte(type == InputRecorder.PADDLE_MOVE ? paddleDelta(tick) : keys(tick));
+                previous = tick;
+            }
+            InputRecorder.writeVarLong(out, STEPS - previous);
+            out.writeByte(InputRecorder.END);
+        }
+    }
+
+    /**
+     * Gets the paddle move of a version 1 recording's event.
+     *
+     * @param tick The step of the event.
+     * @return The paddle delta.
+     */
+    private static int paddleDelta(int tick) {
+        return tick / 30 % 7 < 4 ? 20 : -20;
+    }
+
+    /**
+     * Gets the paddle keys of a key state event.
+     *
+     * @param tick The step of the event.
+     * @return The keys held.
+     */
+    private static int keys(int tick) {
+        return KEY_PATTERN[tick / 30 % KEY_PATTERN.length];
+    }
+
+    /**
+     * Describes every block of a board, destroyed ones included.
+     *
+     * @param blocks The board.
+     * @return The description.
+     */
+    private static String layout(BlockStore blocks) {
+        StringBuilder layout = new StringBuilder();
+        for (int i = 0; i < blocks.size(); i++) {
+            layout.append(blocks.getRow(i)).append(',').append(blocks.getColumn(i)).append(',')
+                    .append(blocks.getType(i)).append(',').append(Integer.toHexString(blocks.getColor(i))).append(' ');
+        }
+        return layout.toString();
+    }
+
+    /**
+     * Describes the parts of a state a replay must reproduce exactly.
+     *
+     * @param state The state to describe.
+     * @return The description.
+     */
+    private static String describe(GameState state) {
+        StringBuilder live = new StringBuilder();
+        for (int i = state.blocks.nextLive(0); i >= 0; i = state.blocks.nextLive(i + 1)) {
+            live.append(i).append(',');
+        }
+        return "level=" + state.level + " score=" + state.score + " heart=" + state.heart
+                + " destroyed=" + state.destroyedBlockCount + " ball=" + state.xBall + "," + state.yBall
+                + " v=" + state.vX + "," + state.vY + " paddle=" + state.xBreak + " time=" + state.time
+                + " over=" + state.gameOver + " won=" + state.won + " blocks=" + state.blocks.size()
+                + " live=" + live;
+    }
+}
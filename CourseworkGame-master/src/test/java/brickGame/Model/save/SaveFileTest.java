@@ -0,0 +1,163 @@
+package brickGame.Model.save;
+
+import brickGame.Model.BlockStore;
+import brickGame.Model.GameState;
+import brickGame.Model.Simulation;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests encoding and decoding saves with {@link SaveFile}.
+ */
+class SaveFileTest {
+
+    @Test
+    void roundTripKeepsTheState() throws IOException {
+        GameState state = playedState();
+        GameState loaded = new GameState();
+        SaveFile.decode(SaveFile.encode(state), loaded);
+
+        assertEquals(describe(state), describe(loaded));
+    }
+
+    @Test
+    void roundTripKeepsTheLiveBlocks() throws IOException {
+        GameState state = playedState();
+        GameState loaded = new GameState();
+        SaveFile.decode(SaveFile.encode(state), loaded);
+
+        // Destroyed blocks are not saved, so the loaded store holds the live blocks in their original order
+        assertEquals(state.blocks.liveCount(), loaded.blocks.size());
+        int j = 0;
+        for (int i = state.blocks.nextLive(0); i >= 0; i = state.blocks.nextLive(i + 1), j++) {
+            assertEquals(state.blocks.getRow(i), loaded.blocks.getRow(j));
+            assertEquals(state.blocks.getColumn(i), loaded.blocks.getColumn(j));
+            assertEquals(state.blocks.getType(i), loaded.blocks.getType(j));
+            assertEquals(state.blocks.getColor(i), loaded.blocks.getColor(j));
+        }
+    }
+
+    @Test
+    void checksumIdentifiesTheSave() throws IOException {
+        GameState state = playedState();
+        int checksum = SaveFile.checksumOf(SaveFile.encode(state));
+        assertEquals(checksum, SaveFile.checksumOf(SaveFile.encode(state)));
+
+        state.score++;
+        assertTrue(checksum != SaveFile.checksumOf(SaveFile.encode(state)));
+    }
+
+    @Test
+    void corruptPayloadFailsTheChecksum() throws IOException {
+        ByteBuffer save = SaveFile.encode(playedState());
+        int offset = SaveFile.HEADER_BYTES + 5;
+        save.put(offset, (byte) (save.get(offset) ^ 0x10));
+
+        IOException e = assertThrows(IOException.class, () -> SaveFile.decode(save, new GameState()));
+        assertTrue(e.getMessage().contains("checksum"), e.getMessage());
+    }
+
+    @Test
+    void truncatedSaveIsRejected() throws IOException {
+        ByteBuffer save = SaveFile.encode(playedState());
+        save.limit(save.limit() - 1);
+
+        IOException e = assertThrows(IOException.class, () -> SaveFile.decode(save, new GameState()));
+        assertTrue(e.getMessage().contains("truncated"), e.getMessage());
+    }
+
+    @Test
+    void otherFilesAreRejected() {
+        ByteBuffer notASave = ByteBuffer.wrap(new byte[64]);
+        assertThrows(IOException.class, () -> SaveFile.decode(notASave, new GameState()));
+    }
+
+    @Test
+    void encodeRejectsRowsAndColumnsBeyondOneByte() {
+        GameState rows = new GameState();
+        rows.blocks.add(300, 0, BlockStore.BLOCK_NORMAL, 0xFFFF0000);
+        assertThrows(IOException.class, () -> SaveFile.encode(rows));
+
+        GameState columns = new GameState();
+        columns.blocks.add(0, 256, BlockStore.BLOCK_NORMAL, 0xFFFF0000);
+        assertThrows(IOException.class, () -> SaveFile.encode(columns));
+    }
+
+    @Test
+    void encodeIgnoresDestroyedBlocksOutOfRange() throws IOException {
+        GameState state = new GameState();
+        state.level = 1;
+        state.blocks.add(0, 0, BlockStore.BLOCK_NORMAL, 0xFFFF0000);
+        state.blocks.destroy(state.blocks.add(300, 0, BlockStore.BLOCK_NORMAL, 0xFFFF0000));
+
+        GameState loaded = new GameState();
+        SaveFile.decode(SaveFile.encode(state), loaded);
+        assertEquals(1, loaded.blocks.size());
+    }
+
+    @Test
+    void decodeRejectsBlocksOffTheBoard() throws IOException {
+        // Level 1 has two rows of four blocks
+        GameState belowLastRow = new GameState();
+        belowLastRow.level = 1;
+        belowLastRow.blocks.add(2, 0, BlockStore.BLOCK_NORMAL, 0xFFFF0000);
+        ByteBuffer rowSave = SaveFile.encode(belowLastRow);
+        assertThrows(IOException.class, () -> SaveFile.decode(rowSave, new GameState()));
+
+        GameState pastLastColumn = new GameState();
+        pastLastColumn.level = 1;
+        pastLastColumn.blocks.add(0, 4, BlockStore.BLOCK_NORMAL, 0xFFFF0000);
+        ByteBuffer columnSave = SaveFile.encode(pastLastColumn);
+        assertThrows(IOException.class, () -> SaveFile.decode(columnSave, new GameState()));
+    }
+
+    @Test
+    void lastLevelBoardFitsAndRoundTrips() throws IOException {
+        GameState state = new GameState();
+        Simulation simulation = new Simulation(state, 99);
+        while (state.level < GameState.LAST_LEVEL) {
+            simulation.advanceLevel();
+        }
+
+        GameState loaded = new GameState();
+        SaveFile.decode(SaveFile.encode(state), loaded);
+        assertEquals((GameState.LAST_LEVEL + 1) * 4, loaded.blocks.size());
+    }
+
+    /**
+     * Plays a seeded game for a while, so the state has destroyed blocks and a moving ball.
+     *
+     * @return The state after the steps.
+     */
+    static GameState playedState() {
+        GameState state = new GameState();
+        Simulation simulation = new Simulation(state, 42);
+        simulation.startNextLevel();
+        for (int i = 0; i < 2000 && !state.gameOver; i++) {
+            simulation.step();
+        }
+        state.isGoldStatus = true;
+        state.goldTime = 1234;
+        return state;
+    }
+
+    /**
+     * Describes every saved field of a state, so two states can be compared in one assertion.
+     *
+     * @param state The state to describe.
+     * @return The description.
+     */
+    static String describe(GameState state) {
+        return "level=" + state.level + " score=" + state.score + " heart=" + state.heart
+                + " destroyed=" + state.destroyedBlockCount + " ball=" + state.xBall + "," + state.yBall
+                + " v=" + state.vX + "," + state.vY + " paddle=" + state.xBreak + "," + state.yBreak
+                + "," + state.centerBreakX + " time=" + state.time + "," + state.hitTime + "," + state.goldTime
+                + " flags=" + SaveFile.packFlags(state) + " live=" + state.blocks.liveCount();
+    }
+}
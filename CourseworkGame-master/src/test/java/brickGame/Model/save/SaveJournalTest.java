@@ -0,0 +1,166 @@
+package brickGame.Model.save;
+
+import brickGame.Model.GameState;
+import brickGame.Model.Simulation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Tests writing a {@link SaveJournal} and replaying it on top of its snapshot.
+ */
+class SaveJournalTest {
+
+    private static final int HEADER_BYTES = 9;
+
+    @TempDir
+    File directory;
+
+    private File snapshotFile;
+    private SaveWriter writer;
+    private SaveJournal journal;
+    private GameState state;
+
+    @BeforeEach
+    void setUp() {
+        snapshotFile = new File(directory, "slot.sav");
+        writer = new SaveWriter();
+        journal = new SaveJournal(snapshotFile, writer);
+        state = new GameState();
+        new Simulation(state, 7).startNextLevel();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown(5000);
+    }
+
+    @Test
+    void replaysRecordsOnTopOfTheSnapshot() throws IOException {
+        journal.compact(state, System.nanoTime());
+
+        int index = state.blocks.nextLive(0);
+        int row = state.blocks.getRow(index);
+        int column = state.blocks.getColumn(index);
+        state.blocks.destroy(index);
+        state.score += 1;
+        state.destroyedBlockCount++;
+        journal.recordBlockDestroyed(state, index);
+
+        state.score += 3;
+        journal.recordScore(state.score);
+        state.heart = 2;
+        journal.recordHeart(state.heart);
+        state.isGoldStatus = true;
+        state.goldTime = 4321;
+        journal.recordGold(true, state.goldTime);
+
+        state.xBall = 123.5;
+        state.yBall = 321.25;
+        state.xBreak = 42;
+        state.centerBreakX = 42 + GameState.HALF_BREAK_WIDTH;
+        journal.onStep(state, SaveJournal.MOTION_INTERVAL_TICKS);
+        flush();
+
+        GameState loaded = new GameState();
+        assertEquals(5, SaveJournal.load(snapshotFile, loaded));
+        assertEquals(SaveFileTest.describe(state), SaveFileTest.describe(loaded));
+        for (int i = loaded.blocks.nextLive(0); i >= 0; i = loaded.blocks.nextLive(i + 1)) {
+            assertFalse(loaded.blocks.getRow(i) == row && loaded.blocks.getColumn(i) == column,
+                    "The destroyed block is back");
+        }
+    }
+
+    @Test
+    void motionIsOnlyLoggedEveryFewSteps() throws IOException {
+        journal.compact(state, System.nanoTime());
+        for (long tick = 1; tick <= 3 * SaveJournal.MOTION_INTERVAL_TICKS; tick++) {
+            state.xBall = tick;
+            journal.onStep(state, tick);
+        }
+        flush();
+
+        GameState loaded = new GameState();
+        assertEquals(3, SaveJournal.load(snapshotFile, loaded));
+        assertEquals(3 * SaveJournal.MOTION_INTERVAL_TICKS, loaded.xBall);
+    }
+
+    @Test
+    void compactsOnceEnoughRecordsPileUp() throws IOException {
+        journal.compact(state, System.nanoTime());
+        for (int i = 0; i < SaveJournal.COMPACT_AFTER_RECORDS; i++) {
+            journal.recordScore(i);
+        }
+        state.score = 5000;
+        journal.onStep(state, 1);
+        flush();
+
+        // The new snapshot holds everything and the journal starts over
+        assertEquals(HEADER_BYTES, SaveJournal.journalFileFor(snapshotFile).length());
+        GameState loaded = new GameState();
+        assertEquals(0, SaveJournal.load(snapshotFile, loaded));
+        assertEquals(5000, loaded.score);
+
+        journal.recordScore(5001);
+        flush();
+        assertEquals(1, SaveJournal.load(snapshotFile, loaded));
+        assertEquals(5001, loaded.score);
+    }
+
+    @Test
+    void tornLastRecordIsIgnored() throws IOException {
+        journal.compact(state, System.nanoTime());
+        journal.recordScore(10);
+        journal.recordScore(20);
+        flush();
+
+        File journalFile = SaveJournal.journalFileFor(snapshotFile);
+        try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+            file.setLength(file.length() - 2);
+        }
+
+        GameState loaded = new GameState();
+        assertEquals(1, SaveJournal.load(snapshotFile, loaded));
+        assertEquals(10, loaded.score);
+    }
+
+    @Test
+    void journalOfAnOlderSnapshotIsIgnored() throws IOException {
+        journal.compact(state, System.nanoTime());
+        journal.recordScore(10);
+        flush();
+
+        state.score = 77;
+        SaveFile.write(state, snapshotFile); // A snapshot the journal does not belong to
+
+        GameState loaded = new GameState();
+        assertEquals(0, SaveJournal.load(snapshotFile, loaded));
+        assertEquals(77, loaded.score);
+    }
+
+    @Test
+    void nothingIsLoggedBeforeTheFirstSnapshot() throws IOException {
+        journal.recordScore(10);
+        journal.compact(state, System.nanoTime());
+        flush();
+
+        GameState loaded = new GameState();
+        assertEquals(0, SaveJournal.load(snapshotFile, loaded));
+        assertEquals(state.score, loaded.score);
+    }
+
+    /**
+     * Waits for the file work queued so far to finish.
+     */
+    private void flush() {
+        writer.report(); // Runs on the writer thread after everything queued before it
+    }
+}